@@ -0,0 +1,49 @@
+package com.logbull.benchmarks;
+
+import com.logbull.core.LogEntry;
+import com.logbull.internal.sender.BatchSerializer;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of a batch into the JSON request body, done once per batch
+ * on the sender thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchSerializerBenchmark {
+    @Param({ "100", "1000" })
+    public int batchSize;
+
+    private final BatchSerializer serializer = new BatchSerializer();
+    private List<LogEntry> batch;
+
+    @Setup
+    public void setUp() {
+        TimestampGenerator timestampGenerator = new TimestampGenerator();
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(new LogEntry("INFO", "Processing order order_" + i,
+                    timestampGenerator.generateUniqueTimestamp(),
+                    Map.of("order_id", "order_" + i, "amount", 99.5, "express", i % 2 == 0)));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(batch);
+    }
+}
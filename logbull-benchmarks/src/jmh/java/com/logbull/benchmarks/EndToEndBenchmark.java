@@ -0,0 +1,68 @@
+package com.logbull.benchmarks;
+
+import com.logbull.Config;
+import com.logbull.core.LogEntry;
+import com.logbull.internal.sender.LogSender;
+import com.logbull.internal.sender.SenderMetrics;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from queueing a batch of logs until the stub server has received
+ * it: formatting, serialization and the HTTP request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EndToEndBenchmark {
+    private static final int BATCH_SIZE = 1_000;
+
+    private StubLogBullServer server;
+    private LogSender sender;
+    private final TimestampGenerator timestampGenerator = new TimestampGenerator();
+
+    @Setup
+    public void setUp() throws Exception {
+        server = new StubLogBullServer();
+        sender = new LogSender(Config.builder()
+                .projectId(StubLogBullServer.PROJECT_ID)
+                .host(server.getHost())
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        sender.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public long sendBatch() {
+        SenderMetrics metrics = sender.getMetrics();
+        long target = metrics.getLogsSent() + BATCH_SIZE;
+        long failed = metrics.getBatchesFailed();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            sender.addLog(new LogEntry("INFO", "Processing order", timestampGenerator.generateUniqueTimestamp(),
+                    Map.of("order_id", "order_123", "amount", 99.5)));
+        }
+        sender.flush();
+        // The scheduled flush may have split the batch, wait for all of it
+        while (metrics.getLogsSent() < target) {
+            if (metrics.getBatchesFailed() != failed) {
+                throw new IllegalStateException("Batch send failed");
+            }
+            Thread.onSpinWait();
+        }
+        return server.getReceivedBytes();
+    }
+}
@@ -0,0 +1,47 @@
+package com.logbull.benchmarks;
+
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-log work done by every integration: unique timestamps and field
+ * normalization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormattingBenchmark {
+    private final TimestampGenerator timestampGenerator = new TimestampGenerator();
+    private final Formatter formatter = new Formatter();
+    private final Map<String, Object> fields = new HashMap<>(Map.of(
+            "order_id", "order_123",
+            "user_id", "user_456",
+            "amount", 99.5,
+            "items", 3,
+            "express", true));
+
+    @Benchmark
+    public String timestamp() {
+        return timestampGenerator.generateUniqueTimestamp();
+    }
+
+    @Benchmark
+    public Map<String, Object> ensureFields() {
+        return formatter.ensureFields(fields);
+    }
+
+    @Benchmark
+    public Map<String, Object> ensureFieldsEmpty() {
+        return formatter.ensureFields(null);
+    }
+}
@@ -0,0 +1,80 @@
+package com.logbull.benchmarks;
+
+import com.logbull.LogBullLogger;
+import com.logbull.core.LogLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a {@link LogBullLogger} call on the application thread. Producers
+ * outpace the sender, so once the queue is full this includes the drop path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogBullLoggerBenchmark {
+    private StubLogBullServer server;
+    private LogBullLogger logger;
+    private LogBullLogger contextLogger;
+
+    private final Map<String, Object> fields = Map.of("order_id", "order_123", "amount", 99.5);
+
+    @Setup
+    public void setUp() throws Exception {
+        server = new StubLogBullServer();
+        logger = LogBullLogger.builder()
+                .projectId(StubLogBullServer.PROJECT_ID)
+                .host(server.getHost())
+                .logLevel(LogLevel.INFO)
+                .build();
+        contextLogger = logger.withContext(Map.of("session_id", "sess_abc", "user_id", "user_456"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        logger.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public void info() {
+        logger.info("Order processed");
+    }
+
+    @Benchmark
+    public void infoWithFields() {
+        logger.info("Order processed", fields);
+    }
+
+    @Benchmark
+    public void infoWithContext() {
+        contextLogger.info("Order processed");
+    }
+
+    @Benchmark
+    public void infoWithContextAndFields() {
+        contextLogger.info("Order processed", fields);
+    }
+
+    @Benchmark
+    public void eventBuilder() {
+        contextLogger.atInfo()
+                .field("order_id", "order_123")
+                .field("amount", 99.5)
+                .log("Order processed");
+    }
+
+    @Benchmark
+    public void disabled() {
+        logger.debug("Order processed", fields);
+    }
+}
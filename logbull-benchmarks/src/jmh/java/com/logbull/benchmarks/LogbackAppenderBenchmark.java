@@ -0,0 +1,68 @@
+package com.logbull.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.logbull.slf4j.LogBullLogbackAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link LogBullLogbackAppender#doAppend} for a prepared event,
+ * without the Logback logger in front of it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogbackAppenderBenchmark {
+    private StubLogBullServer server;
+    private LoggerContext context;
+    private LogBullLogbackAppender appender;
+    private LoggingEvent event;
+    private LoggingEvent belowThresholdEvent;
+
+    @Setup
+    public void setUp() throws Exception {
+        server = new StubLogBullServer();
+        context = new LoggerContext();
+        appender = new LogBullLogbackAppender();
+        appender.setContext(context);
+        appender.setProjectId(StubLogBullServer.PROJECT_ID);
+        appender.setHost(server.getHost());
+        appender.start();
+
+        Logger logger = context.getLogger("com.example.PaymentService");
+        event = new LoggingEvent(Logger.class.getName(), logger, Level.INFO,
+                "Processing order {} for {}", null, new Object[] { "order_123", "user_456" });
+        event.setMDCPropertyMap(Map.of("request_id", "req_789"));
+        belowThresholdEvent = new LoggingEvent(Logger.class.getName(), logger, Level.DEBUG,
+                "Processing order {} for {}", null, new Object[] { "order_123", "user_456" });
+    }
+
+    @TearDown
+    public void tearDown() {
+        appender.stop();
+        context.stop();
+        server.close();
+    }
+
+    @Benchmark
+    public void append() {
+        appender.doAppend(event);
+    }
+
+    @Benchmark
+    public void appendBelowThreshold() {
+        appender.doAppend(belowThresholdEvent);
+    }
+}
@@ -0,0 +1,107 @@
+package com.logbull.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import com.logbull.slf4j.LogBullLogbackAppender;
+import com.logbull.slf4j.provider.LogBullServiceProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of an SLF4J call on the application thread when logging through the
+ * Logback appender versus the native LogBull provider.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Slf4jPathBenchmark {
+    private StubLogBullServer server;
+    private PrintStream originalErr;
+    private LoggerContext logbackContext;
+    private org.slf4j.Logger logbackLogger;
+    private org.slf4j.Logger providerLogger;
+
+    private final String orderId = "order_123";
+    private final String userId = "user_456";
+
+    @Setup
+    public void setUp() throws Exception {
+        server = new StubLogBullServer();
+
+        // Producers outpace the sender, keep queue-full warnings off the console
+        originalErr = System.err;
+        System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+
+        logbackContext = new LoggerContext();
+        LogBullLogbackAppender appender = new LogBullLogbackAppender();
+        appender.setContext(logbackContext);
+        appender.setProjectId(StubLogBullServer.PROJECT_ID);
+        appender.setHost(server.getHost());
+        appender.start();
+        Logger logger = logbackContext.getLogger("com.example.PaymentService");
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        logbackLogger = logger;
+
+        System.setProperty("logbull.projectId", StubLogBullServer.PROJECT_ID);
+        System.setProperty("logbull.host", server.getHost());
+        LogBullServiceProvider provider = new LogBullServiceProvider();
+        provider.initialize();
+        providerLogger = provider.getLoggerFactory().getLogger("com.example.PaymentService");
+    }
+
+    @TearDown
+    public void tearDown() {
+        logbackContext.stop();
+        System.setErr(originalErr);
+        server.close();
+    }
+
+    @Benchmark
+    public void logbackInfo() {
+        logbackLogger.info("Processing order {} for {}", orderId, userId);
+    }
+
+    @Benchmark
+    public void providerInfo() {
+        providerLogger.info("Processing order {} for {}", orderId, userId);
+    }
+
+    @Benchmark
+    public void logbackKeyValues() {
+        logbackLogger.atInfo()
+                .addKeyValue("order_id", orderId)
+                .addKeyValue("user_id", userId)
+                .log("Order processed");
+    }
+
+    @Benchmark
+    public void providerKeyValues() {
+        providerLogger.atInfo()
+                .addKeyValue("order_id", orderId)
+                .addKeyValue("user_id", userId)
+                .log("Order processed");
+    }
+
+    @Benchmark
+    public void logbackDisabled() {
+        logbackLogger.debug("Processing order {} for {}", orderId, userId);
+    }
+
+    @Benchmark
+    public void providerDisabled() {
+        providerLogger.debug("Processing order {} for {}", orderId, userId);
+    }
+}
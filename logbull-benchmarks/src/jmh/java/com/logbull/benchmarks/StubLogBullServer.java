@@ -0,0 +1,58 @@
+package com.logbull.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal LogBull server on a random local port. Accepts every batch and
+ * counts the received bytes, so benchmarks measure the client only.
+ */
+public final class StubLogBullServer implements AutoCloseable {
+    public static final String PROJECT_ID = "12345678-1234-1234-1234-123456789012";
+
+    private static final byte[] RESPONSE = "{\"accepted\":0,\"rejected\":0}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final AtomicLong receivedBytes = new AtomicLong();
+    private final AtomicLong receivedBatches = new AtomicLong();
+
+    public StubLogBullServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/logs/receiving/", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                receivedBytes.addAndGet(body.readAllBytes().length);
+            }
+            receivedBatches.incrementAndGet();
+            exchange.sendResponseHeaders(202, RESPONSE.length);
+            try (OutputStream response = exchange.getResponseBody()) {
+                response.write(RESPONSE);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+    }
+
+    public String getHost() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getReceivedBytes() {
+        return receivedBytes.get();
+    }
+
+    public long getReceivedBatches() {
+        return receivedBatches.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
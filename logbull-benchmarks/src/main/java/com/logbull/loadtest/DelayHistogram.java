@@ -0,0 +1,53 @@
+package com.logbull.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of delays with millisecond buckets up to one minute.
+ */
+final class DelayHistogram {
+    private static final int MAX_MILLIS = 60_000;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(MAX_MILLIS + 1);
+
+    void record(long millis) {
+        buckets.incrementAndGet((int) Math.max(0, Math.min(millis, MAX_MILLIS)));
+    }
+
+    long count() {
+        long count = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the delay at the given percentile in milliseconds, values of a
+     * minute or more are reported as 60000.
+     */
+    long percentile(double percentile) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return i;
+            }
+        }
+        return MAX_MILLIS;
+    }
+
+    long max() {
+        for (int i = buckets.length() - 1; i >= 0; i--) {
+            if (buckets.get(i) > 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,135 @@
+package com.logbull.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logbull.internal.sender.LogSender;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local LogBull endpoint that misbehaves according to a {@link FaultProfile}
+ * and records the delay between a log's timestamp and its arrival.
+ */
+final class FaultInjectingServer implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final FaultProfile profile;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long startNanos = System.nanoTime();
+
+    final DelayHistogram delays = new DelayHistogram();
+    final LongAdder acceptedLogs = new LongAdder();
+    final LongAdder rejectedLogs = new LongAdder();
+    final LongAdder errorResponses = new LongAdder();
+    final LongAdder resets = new LongAdder();
+    final LongAdder duplicateBatches = new LongAdder();
+    private final Set<String> batchIds = ConcurrentHashMap.newKeySet();
+
+    FaultInjectingServer(FaultProfile profile) throws IOException {
+        this.profile = profile;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.createContext("/api/v1/logs/receiving/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String getHost() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            if (profile.latencyMillis > 0) {
+                sleep(profile.latencyMillis);
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextDouble() < profile.resetRate) {
+                // Closing without a response looks like a reset connection to the client
+                resets.increment();
+                return;
+            }
+            if (inBurst() || random.nextDouble() < profile.errorRate) {
+                errorResponses.increment();
+                respond(exchange, 503, "{\"message\":\"injected failure\"}");
+                return;
+            }
+
+            JsonNode logs = objectMapper.readTree(body).get("logs");
+            String batchId = exchange.getRequestHeaders().getFirst(LogSender.BATCH_ID_HEADER);
+            if (batchId != null && !batchIds.add(batchId)) {
+                // Already stored, acknowledge the retry without counting it again
+                duplicateBatches.increment();
+                respond(exchange, 202, "{\"accepted\":" + logs.size() + ",\"rejected\":0}");
+                return;
+            }
+            long now = System.currentTimeMillis();
+            StringBuilder errors = new StringBuilder();
+            int rejected = 0;
+            for (int i = 0; i < logs.size(); i++) {
+                if (random.nextDouble() < profile.rejectRate) {
+                    if (rejected > 0) {
+                        errors.append(',');
+                    }
+                    errors.append("{\"index\":").append(i).append(",\"message\":\"injected rejection\"}");
+                    rejected++;
+                    continue;
+                }
+                delays.record(now - Instant.parse(logs.get(i).get("timestamp").asText()).toEpochMilli());
+            }
+            acceptedLogs.add(logs.size() - rejected);
+            rejectedLogs.add(rejected);
+            respond(exchange, 202, "{\"accepted\":" + (logs.size() - rejected) + ",\"rejected\":" + rejected
+                    + ",\"errors\":[" + errors + "]}");
+        }
+    }
+
+    private boolean inBurst() {
+        if (profile.burstEverySeconds <= 0) {
+            return false;
+        }
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos);
+        return second % profile.burstEverySeconds >= profile.burstEverySeconds - profile.burstLengthSeconds;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] response = json.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
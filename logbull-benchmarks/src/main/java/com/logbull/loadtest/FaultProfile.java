@@ -0,0 +1,67 @@
+package com.logbull.loadtest;
+
+import java.util.Map;
+
+/**
+ * Misbehavior of the stub server: added latency, random and bursty 5xx
+ * responses, partial rejections and connection resets.
+ */
+public final class FaultProfile {
+    final long latencyMillis;
+    final double errorRate;
+    final long burstEverySeconds;
+    final long burstLengthSeconds;
+    final double rejectRate;
+    final double resetRate;
+
+    FaultProfile(long latencyMillis, double errorRate, long burstEverySeconds, long burstLengthSeconds,
+            double rejectRate, double resetRate) {
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        this.burstEverySeconds = burstEverySeconds;
+        this.burstLengthSeconds = burstLengthSeconds;
+        this.rejectRate = rejectRate;
+        this.resetRate = resetRate;
+    }
+
+    /**
+     * Named presets, overridden by individual options.
+     */
+    static FaultProfile preset(String name) {
+        switch (name) {
+            case "healthy":
+                return new FaultProfile(0, 0, 0, 0, 0, 0);
+            case "slow":
+                return new FaultProfile(2_000, 0, 0, 0, 0, 0);
+            case "errors":
+                return new FaultProfile(0, 0.2, 0, 0, 0, 0);
+            case "bursts":
+                return new FaultProfile(0, 0, 30, 10, 0, 0);
+            case "rejects":
+                return new FaultProfile(0, 0, 0, 0, 0.05, 0);
+            case "resets":
+                return new FaultProfile(0, 0, 0, 0, 0, 0.1);
+            default:
+                throw new IllegalArgumentException("Unknown profile '" + name
+                        + "', expected healthy, slow, errors, bursts, rejects or resets");
+        }
+    }
+
+    static FaultProfile fromOptions(Map<String, String> options) {
+        FaultProfile preset = preset(options.getOrDefault("profile", "healthy"));
+        return new FaultProfile(
+                Long.parseLong(options.getOrDefault("latency-ms", String.valueOf(preset.latencyMillis))),
+                Double.parseDouble(options.getOrDefault("error-rate", String.valueOf(preset.errorRate))),
+                Long.parseLong(options.getOrDefault("burst-every", String.valueOf(preset.burstEverySeconds))),
+                Long.parseLong(options.getOrDefault("burst-length", String.valueOf(preset.burstLengthSeconds))),
+                Double.parseDouble(options.getOrDefault("reject-rate", String.valueOf(preset.rejectRate))),
+                Double.parseDouble(options.getOrDefault("reset-rate", String.valueOf(preset.resetRate))));
+    }
+
+    @Override
+    public String toString() {
+        return "latency=" + latencyMillis + "ms, errorRate=" + errorRate
+                + ", bursts=" + (burstEverySeconds > 0 ? burstLengthSeconds + "s every " + burstEverySeconds + "s" : "off")
+                + ", rejectRate=" + rejectRate + ", resetRate=" + resetRate;
+    }
+}
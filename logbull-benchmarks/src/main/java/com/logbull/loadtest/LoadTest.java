@@ -0,0 +1,149 @@
+package com.logbull.loadtest;
+
+import com.logbull.LogBullLogger;
+import com.logbull.core.LogLevel;
+import com.logbull.internal.sender.SenderMetrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives producer threads at a target rate against a
+ * {@link FaultInjectingServer} and reports throughput, loss, delivery delay
+ * and heap usage.
+ *
+ * <pre>
+ * ./gradlew :logbull-benchmarks:loadTest -PloadTestArgs="--profile=bursts --producers=8 --rate=20000 --duration=60"
+ * </pre>
+ *
+ * Options: {@code --producers}, {@code --rate} (logs per second, all
+ * producers together), {@code --duration} (seconds), {@code --profile}
+ * (healthy, slow, errors, bursts, rejects, resets) and the profile
+ * overrides {@code --latency-ms}, {@code --error-rate}, {@code --burst-every},
+ * {@code --burst-length}, {@code --reject-rate}, {@code --reset-rate}.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int producers = Integer.parseInt(options.getOrDefault("producers", "4"));
+        long rate = Long.parseLong(options.getOrDefault("rate", "10000"));
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration", "30"));
+        FaultProfile profile = FaultProfile.fromOptions(options);
+
+        System.out.println("Load test: " + producers + " producers, " + rate + " logs/s, "
+                + durationSeconds + "s, " + profile);
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        AtomicLong maxHeap = new AtomicLong();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(
+                () -> maxHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, 100, TimeUnit.MILLISECONDS);
+
+        try (FaultInjectingServer server = new FaultInjectingServer(profile)) {
+            LogBullLogger logger = LogBullLogger.builder()
+                    .projectId("12345678-1234-1234-1234-123456789012")
+                    .host(server.getHost())
+                    .logLevel(LogLevel.INFO)
+                    .consoleOutput(false)
+                    .build();
+
+            LongAdder offered = new LongAdder();
+            long start = System.nanoTime();
+            long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+            long intervalNanos = TimeUnit.SECONDS.toNanos(producers) / rate;
+            CountDownLatch done = new CountDownLatch(producers);
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                Thread thread = new Thread(() -> {
+                    try {
+                        produce(logger, producer, start, end, intervalNanos, offered);
+                    } finally {
+                        done.countDown();
+                    }
+                }, "LoadTest-Producer-" + p);
+                thread.start();
+            }
+            done.await();
+            double producingSeconds = (System.nanoTime() - start) / 1e9;
+
+            // Drain what the sender still holds
+            logger.shutdown();
+            long undelivered = logger.getSenderMetrics().getQueueDepth();
+            sampler.shutdown();
+
+            System.gc();
+            long heapAfterGc = memory.getHeapMemoryUsage().getUsed();
+            report(logger.getSenderMetrics(), server, offered.sum(), producingSeconds, undelivered,
+                    maxHeap.get(), heapAfterGc);
+        }
+    }
+
+    private static void produce(LogBullLogger logger, int producer, long start, long end, long intervalNanos,
+            LongAdder offered) {
+        Map<String, Object> fields = Map.of("producer", producer, "order_id", "order_123");
+        long next = start;
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            logger.info("Load test message", fields);
+            offered.increment();
+            next += intervalNanos;
+        }
+    }
+
+    private static void report(SenderMetrics metrics, FaultInjectingServer server, long offered,
+            double seconds, long undelivered, long maxHeap, long heapAfterGc) {
+        long received = server.acceptedLogs.sum();
+        long rejected = server.rejectedLogs.sum();
+        long lost = offered - received - rejected;
+
+        System.out.println();
+        System.out.printf("Offered:            %,d logs (%,.0f logs/s)%n", offered, offered / seconds);
+        System.out.printf("Delivered:          %,d logs (%.3f%% lost)%n", received,
+                offered == 0 ? 0.0 : lost * 100.0 / offered);
+        System.out.printf("Rejected by server: %,d logs%n", rejected);
+        System.out.printf("Dropped:            %,d queue full, %,d after shutdown, %,d format failures%n",
+                metrics.getDroppedQueueFull(), metrics.getDroppedAfterShutdown(),
+                metrics.getDroppedFormatFailure());
+        System.out.printf("Left in queue:      %,d logs at shutdown%n", undelivered);
+        System.out.printf("Batches:            %,d sent, %,d failed, statuses %s%n",
+                metrics.getBatchesSent(), metrics.getBatchesFailed(), metrics.getHttpStatusCounts());
+        System.out.printf("Server faults:      %,d error responses, %,d resets%n",
+                server.errorResponses.sum(), server.resets.sum());
+        System.out.printf("Retries:            %,d requests, %,d duplicate batches discarded%n",
+                metrics.getRetries(), server.duplicateBatches.sum());
+        System.out.printf("Delivery delay:     p50 %d ms, p90 %d ms, p99 %d ms, p99.9 %d ms, max %d ms%n",
+                server.delays.percentile(50), server.delays.percentile(90), server.delays.percentile(99),
+                server.delays.percentile(99.9), server.delays.max());
+        System.out.printf("Heap:               max %,d KB used, %,d KB after GC%n",
+                maxHeap / 1024, heapAfterGc / 1024);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got '" + arg + "'");
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,230 @@
+package com.logbull.log4j2;
+
+import com.logbull.Config;
+import com.logbull.core.LogLevel;
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.sender.LogSender;
+import com.logbull.internal.sender.LogSenderRegistry;
+import com.logbull.internal.status.StatusListener;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import com.logbull.internal.validation.Validator;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Log4j2 appender that sends logs to LogBull server.
+ * <p>
+ * The appender is garbage-free in steady state: each event is copied into a
+ * preallocated slot and queued, and formatting happens on the sender thread.
+ * Messages implementing {@code StringBuilderFormattable} are formatted straight
+ * into the slot's buffer.
+ *
+ * <pre>
+ * &lt;LogBull name="LogBull" projectId="..." host="http://localhost:4005" logLevel="INFO"/&gt;
+ * </pre>
+ */
+@Plugin(name = "LogBull", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE, printObject = true)
+public final class LogBullLog4j2Appender extends AbstractAppender {
+    static final int DEFAULT_POOL_SIZE = 2_048;
+
+    private final LogSenderRegistry.Lease senderLease;
+    private final LogSender sender;
+    private final StatusListener statusListener;
+    private final int minPriority;
+    private final LogSlotPool pool;
+
+    private LogBullLog4j2Appender(String name, Filter filter, boolean ignoreExceptions, Property[] properties,
+            Config config, int poolSize) {
+        super(name, filter, null, ignoreExceptions, properties);
+        this.senderLease = LogSenderRegistry.acquire(config);
+        this.sender = senderLease.getSender();
+        // Report sender problems through the Log4j status logger, the
+        // sender may be shared with other appenders and loggers
+        this.statusListener = (category, message) -> LOGGER.error("LogBull appender {}: {}", name, message);
+        sender.getStatusReporter().addListener(statusListener);
+        this.minPriority = config.getLogLevel().getPriority();
+        this.pool = new LogSlotPool(poolSize, new Formatter(), new TimestampGenerator());
+    }
+
+    @PluginBuilderFactory
+    public static <B extends Builder<B>> B newBuilder() {
+        return new Builder<B>().asBuilder();
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        LogLevel level = convertLog4jLevel(event.getLevel());
+        if (level.getPriority() < minPriority) {
+            return;
+        }
+
+        LogSlot slot = pool.claim();
+        try {
+            slot.capture(event, level);
+        } catch (Exception e) {
+            slot.release();
+            error("Failed to append log to LogBull: " + e.getMessage(), event, e);
+            return;
+        }
+
+        if (!sender.addLog(slot)) {
+            slot.release();
+        }
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        setStopping();
+        boolean stopped = super.stop(timeout, timeUnit, false);
+        // Log4j2 passes the remaining shutdown budget, otherwise use the configured deadline
+        if (timeout > 0) {
+            stopped &= senderLease.release(timeUnit.toMillis(timeout));
+        } else {
+            senderLease.release();
+        }
+        sender.getStatusReporter().removeListener(statusListener);
+        setStopped();
+        return stopped;
+    }
+
+    int getPoolSize() {
+        return pool.size();
+    }
+
+    int getAvailableSlots() {
+        return pool.available();
+    }
+
+    /**
+     * Hands the queued events to the sender right away.
+     */
+    void flush() {
+        sender.flush();
+    }
+
+    private static LogLevel convertLog4jLevel(Level level) {
+        if (level == null) {
+            return LogLevel.INFO;
+        }
+
+        int intLevel = level.intLevel();
+        if (intLevel <= Level.FATAL.intLevel()) {
+            return LogLevel.CRITICAL;
+        } else if (intLevel <= Level.ERROR.intLevel()) {
+            return LogLevel.ERROR;
+        } else if (intLevel <= Level.WARN.intLevel()) {
+            return LogLevel.WARNING;
+        } else if (intLevel <= Level.INFO.intLevel()) {
+            return LogLevel.INFO;
+        }
+        return LogLevel.DEBUG;
+    }
+
+    /**
+     * Builder for the appender, populated from the Log4j2 configuration.
+     */
+    public static class Builder<B extends Builder<B>> extends AbstractAppender.Builder<B>
+            implements org.apache.logging.log4j.core.util.Builder<LogBullLog4j2Appender> {
+
+        @PluginBuilderAttribute
+        private String projectId;
+
+        @PluginBuilderAttribute
+        private String host;
+
+        @PluginBuilderAttribute(sensitive = true)
+        private String apiKey;
+
+        @PluginBuilderAttribute
+        private String logLevel = "INFO";
+
+        @PluginBuilderAttribute
+        private int poolSize = DEFAULT_POOL_SIZE;
+
+        public B setProjectId(String projectId) {
+            this.projectId = projectId;
+            return asBuilder();
+        }
+
+        public B setHost(String host) {
+            this.host = host;
+            return asBuilder();
+        }
+
+        public B setApiKey(String apiKey) {
+            this.apiKey = apiKey;
+            return asBuilder();
+        }
+
+        public B setLogLevel(String logLevel) {
+            this.logLevel = logLevel;
+            return asBuilder();
+        }
+
+        public B setPoolSize(int poolSize) {
+            this.poolSize = poolSize;
+            return asBuilder();
+        }
+
+        @Override
+        public LogBullLog4j2Appender build() {
+            if (projectId == null || projectId.trim().isEmpty()) {
+                LOGGER.error("LogBull projectId is required");
+                return null;
+            }
+
+            if (host == null || host.trim().isEmpty()) {
+                LOGGER.error("LogBull host is required");
+                return null;
+            }
+
+            if (poolSize <= 0) {
+                LOGGER.error("LogBull poolSize must be positive, got {}", poolSize);
+                return null;
+            }
+
+            try {
+                Validator validator = new Validator();
+                validator.validateProjectId(projectId);
+                validator.validateHostUrl(host);
+                validator.validateApiKey(apiKey);
+
+                Config config = Config.builder()
+                        .projectId(projectId.trim())
+                        .host(host.trim())
+                        .apiKey(apiKey != null ? apiKey.trim() : null)
+                        .logLevel(parseLogLevel(logLevel))
+                        .build();
+
+                return new LogBullLog4j2Appender(getName(), getFilter(), isIgnoreExceptions(),
+                        getPropertyArray(), config, poolSize);
+            } catch (Exception e) {
+                LOGGER.error("Failed to initialize LogBull appender: {}", e.getMessage(), e);
+                return null;
+            }
+        }
+
+        private static LogLevel parseLogLevel(String level) {
+            if (level == null || level.trim().isEmpty()) {
+                return LogLevel.INFO;
+            }
+
+            try {
+                return LogLevel.valueOf(level.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Invalid log level '{}', defaulting to INFO", level);
+                return LogLevel.INFO;
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.logbull.log4j2;
+
+import com.logbull.core.LogEntry;
+import com.logbull.core.LogLevel;
+import com.logbull.internal.formatting.FormattedMessage;
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.sender.PendingLog;
+import com.logbull.internal.serialization.EncodedFields;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+import org.apache.logging.log4j.util.TriConsumer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Preallocated holder for one Log4j2 event waiting in the sender queue.
+ * <p>
+ * {@link #capture(LogEvent, LogLevel)} copies the event into buffers owned by
+ * the slot without allocating, since Log4j2 may reuse the event once the
+ * appender returns. The {@link LogEntry} is built on the sender thread, after
+ * which the slot is released back to its pool.
+ */
+final class LogSlot implements PendingLog {
+    private static final int INITIAL_MESSAGE_CAPACITY = 256;
+    private static final int MAX_RETAINED_MESSAGE_CAPACITY = 4_096;
+    private static final int INITIAL_CONTEXT_CAPACITY = 8;
+
+    private static final TriConsumer<String, Object, LogSlot> CONTEXT_COPIER =
+            (key, value, slot) -> slot.addContext(key, value);
+
+    private final Formatter formatter;
+    private final TimestampGenerator timestampGenerator;
+    private final AtomicBoolean claimed = new AtomicBoolean();
+
+    private StringBuilder message = new StringBuilder(INITIAL_MESSAGE_CAPACITY);
+    private String[] contextKeys = new String[INITIAL_CONTEXT_CAPACITY];
+    private Object[] contextValues = new Object[INITIAL_CONTEXT_CAPACITY];
+    private int contextSize;
+    private LogLevel level;
+    private String loggerName;
+    private String threadName;
+    private long timestampNanos;
+    private Throwable thrown;
+
+    private LogEntry entry;
+
+    LogSlot(Formatter formatter, TimestampGenerator timestampGenerator) {
+        this.formatter = formatter;
+        this.timestampGenerator = timestampGenerator;
+    }
+
+    boolean tryClaim() {
+        return claimed.compareAndSet(false, true);
+    }
+
+    boolean isClaimed() {
+        return claimed.get();
+    }
+
+    void capture(LogEvent event, LogLevel level) {
+        this.level = level;
+
+        Message eventMessage = event.getMessage();
+        if (eventMessage instanceof StringBuilderFormattable) {
+            ((StringBuilderFormattable) eventMessage).formatTo(message);
+        } else if (eventMessage != null) {
+            message.append(eventMessage.getFormattedMessage());
+        }
+
+        event.getContextData().forEach(CONTEXT_COPIER, this);
+
+        this.loggerName = event.getLoggerName();
+        this.threadName = event.getThreadName();
+        // Made unique here rather than on the sender thread, so timestamps
+        // follow logging order even when batches are formatted concurrently
+        this.timestampNanos = timestampGenerator.uniqueNanos(
+                event.getInstant().getEpochSecond(), event.getInstant().getNanoOfSecond());
+        this.thrown = event.getThrown();
+    }
+
+    @Override
+    public LogEntry toLogEntry() {
+        if (entry == null) {
+            FormattedMessage formattedMessage = formatter.format(message.toString());
+
+            Map<String, Object> fields = new HashMap<>();
+            for (int i = 0; i < contextSize; i++) {
+                fields.put(contextKeys[i], contextValues[i]);
+            }
+            fields.put("logger", loggerName);
+            if (threadName != null) {
+                fields.put("thread", threadName);
+            }
+
+            String timestamp = TimestampGenerator.format(timestampNanos);
+
+            entry = new LogEntry(
+                    level.toString(),
+                    formattedMessage,
+                    timestamp,
+                    formatter.ensureFields(fields),
+                    EncodedFields.EMPTY,
+                    EncodedFields.EMPTY,
+                    thrown);
+        }
+        return entry;
+    }
+
+    @Override
+    public void release() {
+        if (message.capacity() > MAX_RETAINED_MESSAGE_CAPACITY) {
+            // Don't keep one huge message's buffer around for good
+            message = new StringBuilder(INITIAL_MESSAGE_CAPACITY);
+        } else {
+            message.setLength(0);
+        }
+        Arrays.fill(contextKeys, 0, contextSize, null);
+        Arrays.fill(contextValues, 0, contextSize, null);
+        contextSize = 0;
+        level = null;
+        loggerName = null;
+        threadName = null;
+        thrown = null;
+        entry = null;
+
+        claimed.set(false);
+    }
+
+    private void addContext(String key, Object value) {
+        if (contextSize == contextKeys.length) {
+            contextKeys = Arrays.copyOf(contextKeys, contextSize * 2);
+            contextValues = Arrays.copyOf(contextValues, contextSize * 2);
+        }
+        contextKeys[contextSize] = key;
+        contextValues[contextSize] = value;
+        contextSize++;
+    }
+}
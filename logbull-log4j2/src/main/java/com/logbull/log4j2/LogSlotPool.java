@@ -0,0 +1,59 @@
+package com.logbull.log4j2;
+
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.timestamp.TimestampGenerator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed ring of reusable {@link LogSlot}s. Slots are released by the sender
+ * roughly in the order they were claimed, so the slot after the last claimed
+ * one is almost always free.
+ */
+final class LogSlotPool {
+    private final LogSlot[] slots;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final Formatter formatter;
+    private final TimestampGenerator timestampGenerator;
+
+    LogSlotPool(int size, Formatter formatter, TimestampGenerator timestampGenerator) {
+        this.slots = new LogSlot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new LogSlot(formatter, timestampGenerator);
+        }
+        this.formatter = formatter;
+        this.timestampGenerator = timestampGenerator;
+    }
+
+    LogSlot claim() {
+        int start = cursor.getAndIncrement();
+        for (int i = 0; i < slots.length; i++) {
+            LogSlot slot = slots[Math.floorMod(start + i, slots.length)];
+            if (slot.tryClaim()) {
+                return slot;
+            }
+        }
+
+        // Every slot is still queued, use a one-off slot rather than block
+        LogSlot slot = new LogSlot(formatter, timestampGenerator);
+        slot.tryClaim();
+        return slot;
+    }
+
+    int size() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the number of pooled slots not waiting in the sender queue.
+     */
+    int available() {
+        int available = 0;
+        for (LogSlot slot : slots) {
+            if (!slot.isClaimed()) {
+                available++;
+            }
+        }
+        return available;
+    }
+}
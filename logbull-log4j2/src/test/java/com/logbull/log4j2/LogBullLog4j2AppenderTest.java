@@ -0,0 +1,145 @@
+package com.logbull.log4j2;
+
+import com.sun.management.ThreadMXBean;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogBullLog4j2AppenderTest {
+    private LogBullLog4j2Appender appender;
+
+    @AfterEach
+    void tearDown() {
+        if (appender != null) {
+            appender.stop(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testBuildAppender() {
+        appender = LogBullLog4j2Appender.newBuilder()
+                .setName("LogBull")
+                .setProjectId("12345678-1234-1234-1234-123456789012")
+                .setHost("http://localhost:4005")
+                .setLogLevel("WARNING")
+                .build();
+
+        assertNotNull(appender);
+        assertEquals("LogBull", appender.getName());
+        assertEquals(LogBullLog4j2Appender.DEFAULT_POOL_SIZE, appender.getPoolSize());
+    }
+
+    @Test
+    void testMissingProjectId() {
+        LogBullLog4j2Appender missing = LogBullLog4j2Appender.newBuilder()
+                .setName("LogBull")
+                .setHost("http://localhost:4005")
+                .build();
+
+        assertNull(missing);
+    }
+
+    @Test
+    void testInvalidHost() {
+        LogBullLog4j2Appender invalid = LogBullLog4j2Appender.newBuilder()
+                .setName("LogBull")
+                .setProjectId("12345678-1234-1234-1234-123456789012")
+                .setHost("invalid-url")
+                .build();
+
+        assertNull(invalid);
+    }
+
+    @Test
+    void testAppendIsGarbageFree() throws Exception {
+        // Slots are recycled many times over: acquire, send, release, reuse
+        int poolSize = 64;
+        int eventsPerRound = 50;
+        int warmupRounds = 40;
+        int measuredRounds = 100;
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            byte[] response = "{\"accepted\":1,\"rejected\":0}".getBytes();
+            exchange.sendResponseHeaders(202, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+        try {
+            appender = LogBullLog4j2Appender.newBuilder()
+                    .setName("LogBull")
+                    .setProjectId("12345678-1234-1234-1234-123456789012")
+                    .setHost("http://127.0.0.1:" + server.getAddress().getPort())
+                    .setPoolSize(poolSize)
+                    .build();
+            appender.start();
+
+            SortedArrayStringMap contextData = new SortedArrayStringMap();
+            contextData.putValue("request_id", "req_1");
+            LogEvent event = Log4jLogEvent.newBuilder()
+                    .setLoggerName("com.example.PaymentService")
+                    .setLevel(Level.INFO)
+                    .setMessage(new ParameterizedMessage("Processing order {}", "order_1"))
+                    .setContextData(contextData)
+                    .setThreadName("worker-1")
+                    .setTimeMillis(System.currentTimeMillis())
+                    .build();
+            LogEvent debugEvent = Log4jLogEvent.newBuilder()
+                    .setLoggerName("com.example.PaymentService")
+                    .setLevel(Level.DEBUG)
+                    .setMessage(new ParameterizedMessage("Filtered"))
+                    .build();
+
+            for (int round = 0; round < warmupRounds; round++) {
+                appendRound(event, debugEvent, eventsPerRound);
+                drainPool(poolSize);
+            }
+
+            ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            threadMXBean.getCurrentThreadAllocatedBytes();
+            long allocated = 0;
+            for (int round = 0; round < measuredRounds; round++) {
+                // Only the appending thread is measured, draining is not part of append
+                long before = threadMXBean.getCurrentThreadAllocatedBytes();
+                appendRound(event, debugEvent, eventsPerRound);
+                allocated += threadMXBean.getCurrentThreadAllocatedBytes() - before;
+                drainPool(poolSize);
+            }
+
+            int measured = eventsPerRound * measuredRounds;
+            // Allow for one-off noise from the measurement itself, not per event
+            assertTrue(allocated < measured, "allocated " + allocated + " bytes for " + measured + " events");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private void appendRound(LogEvent event, LogEvent debugEvent, int events) {
+        for (int i = 0; i < events; i++) {
+            appender.append(event);
+            appender.append(debugEvent);
+        }
+    }
+
+    private void drainPool(int poolSize) throws InterruptedException {
+        appender.flush();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (appender.getAvailableSlots() < poolSize) {
+            assertTrue(System.nanoTime() < deadline, "slots were not released by the sender");
+            Thread.sleep(1);
+        }
+    }
+}
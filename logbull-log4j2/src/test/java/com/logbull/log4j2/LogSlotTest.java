@@ -0,0 +1,100 @@
+package com.logbull.log4j2;
+
+import com.logbull.core.LogEntry;
+import com.logbull.core.LogLevel;
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSlotTest {
+    private TimestampGenerator timestampGenerator;
+    private LogSlot slot;
+
+    @BeforeEach
+    void setUp() {
+        timestampGenerator = new TimestampGenerator();
+        slot = new LogSlot(new Formatter(), timestampGenerator);
+    }
+
+    @Test
+    void testCapturesEvent() {
+        SortedArrayStringMap contextData = new SortedArrayStringMap();
+        contextData.putValue("request_id", "req_1");
+        IllegalStateException exception = new IllegalStateException("boom");
+        LogEvent event = Log4jLogEvent.newBuilder()
+                .setLoggerName("com.example.PaymentService")
+                .setLevel(Level.ERROR)
+                .setMessage(new ParameterizedMessage("Processing order {}", "order_1"))
+                .setContextData(contextData)
+                .setThreadName("worker-1")
+                .setTimeMillis(1_700_000_000_123L)
+                .setThrown(exception)
+                .build();
+
+        slot.capture(event, LogLevel.ERROR);
+        LogEntry entry = slot.toLogEntry();
+
+        assertEquals("ERROR", entry.getLevel());
+        assertEquals("Processing order order_1", entry.getMessage());
+        assertEquals("req_1", entry.getFields().get("request_id"));
+        assertEquals("com.example.PaymentService", entry.getFields().get("logger"));
+        assertEquals("worker-1", entry.getFields().get("thread"));
+        assertTrue(entry.getTimestamp().startsWith("2023-11-14T22:13:20.123"));
+        assertSame(exception, entry.getThrowable());
+        assertSame(entry, slot.toLogEntry());
+    }
+
+    @Test
+    void testTimestampsFollowCaptureOrderWhenMaterializedOutOfOrder() {
+        LogEvent event = Log4jLogEvent.newBuilder()
+                .setLoggerName("com.example.PaymentService")
+                .setLevel(Level.INFO)
+                .setMessage(new ParameterizedMessage("Order placed"))
+                .setTimeMillis(1_700_000_000_123L)
+                .build();
+        LogSlot second = new LogSlot(new Formatter(), timestampGenerator);
+        slot.capture(event, LogLevel.INFO);
+        second.capture(event, LogLevel.INFO);
+
+        // Sender threads may format a later batch before an earlier one
+        String secondTimestamp = second.toLogEntry().getTimestamp();
+        String firstTimestamp = slot.toLogEntry().getTimestamp();
+
+        assertEquals("2023-11-14T22:13:20.123000000Z", firstTimestamp);
+        assertEquals("2023-11-14T22:13:20.123000001Z", secondTimestamp);
+    }
+
+    @Test
+    void testReleaseResetsSlot() {
+        LogEvent first = Log4jLogEvent.newBuilder()
+                .setLoggerName("first")
+                .setLevel(Level.INFO)
+                .setMessage(new ParameterizedMessage("First"))
+                .build();
+        LogEvent second = Log4jLogEvent.newBuilder()
+                .setLoggerName("second")
+                .setLevel(Level.INFO)
+                .setMessage(new ParameterizedMessage("Second"))
+                .build();
+
+        assertTrue(slot.tryClaim());
+        assertFalse(slot.tryClaim());
+        slot.capture(first, LogLevel.INFO);
+        slot.toLogEntry();
+        slot.release();
+
+        assertTrue(slot.tryClaim());
+        slot.capture(second, LogLevel.INFO);
+        LogEntry entry = slot.toLogEntry();
+        assertEquals("Second", entry.getMessage());
+        assertEquals("second", entry.getFields().get("logger"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.logbull.slf4j.provider;
+
+import com.logbull.core.LogEntry;
+import com.logbull.core.LogLevel;
+import com.logbull.internal.formatting.FormattedMessage;
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.sender.PendingLog;
+import com.logbull.internal.serialization.EncodedFields;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import com.logbull.slf4j.Slf4jFields;
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SLF4J call captured by reference on the application thread and turned into
+ * a {@link LogEntry} on a sender thread. The unique timestamp is taken on the
+ * application thread, so timestamps follow logging order even though sender
+ * threads format batches concurrently. Message arguments are rendered when
+ * the batch is sent, so they should not be mutated after logging.
+ */
+final class DeferredSlf4jEvent implements PendingLog {
+    private final LogLevel level;
+    private final String messagePattern;
+    private final Object[] arguments;
+    private final Throwable throwable;
+    private final Map<String, String> mdc;
+    private final List<Marker> markers;
+    private final List<KeyValuePair> keyValuePairs;
+    private final String loggerName;
+    private final String threadName;
+    private final long timestampNanos;
+    private final Formatter formatter;
+
+    private LogEntry entry;
+
+    DeferredSlf4jEvent(LogLevel level, String messagePattern, Object[] arguments, Throwable throwable,
+            Map<String, String> mdc, List<Marker> markers, List<KeyValuePair> keyValuePairs, String loggerName,
+            String threadName, Formatter formatter, TimestampGenerator timestampGenerator) {
+        this.level = level;
+        this.messagePattern = messagePattern;
+        this.arguments = arguments;
+        this.throwable = throwable;
+        this.mdc = mdc;
+        this.markers = markers;
+        this.keyValuePairs = keyValuePairs;
+        this.loggerName = loggerName;
+        this.threadName = threadName;
+        this.timestampNanos = timestampGenerator.uniqueNanos(Instant.now());
+        this.formatter = formatter;
+    }
+
+    @Override
+    public LogEntry toLogEntry() {
+        if (entry == null) {
+            FormattedMessage message = formatter.format(formatMessage());
+            // Fields are written from the captured sources, without a map copy
+            Slf4jFields fields = new Slf4jFields(mdc, keyValuePairs, markers, loggerName, threadName);
+            String timestamp = TimestampGenerator.format(timestampNanos);
+
+            entry = new LogEntry(
+                    level.toString(),
+                    message,
+                    timestamp,
+                    null,
+                    EncodedFields.EMPTY,
+                    fields,
+                    throwable);
+        }
+        return entry;
+    }
+
+    private String formatMessage() {
+        if (messagePattern == null) {
+            return "";
+        }
+        if (arguments == null || arguments.length == 0) {
+            return messagePattern;
+        }
+        return MessageFormatter.basicArrayFormat(messagePattern, arguments);
+    }
+}
@@ -0,0 +1,35 @@
+package com.logbull.slf4j.provider;
+
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.sender.LogSender;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.Logger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates and caches one {@link LogBullSlf4jLogger} per name. All loggers
+ * share the same sender.
+ */
+final class LogBullLoggerFactory implements ILoggerFactory {
+    private final ConcurrentMap<String, Logger> loggers = new ConcurrentHashMap<>();
+    private final ProviderSettings settings;
+    private final LogSender sender;
+    private final LogBullMDCAdapter mdcAdapter;
+    private final Formatter formatter = new Formatter();
+    private final TimestampGenerator timestampGenerator = new TimestampGenerator();
+
+    LogBullLoggerFactory(ProviderSettings settings, LogSender sender, LogBullMDCAdapter mdcAdapter) {
+        this.settings = settings;
+        this.sender = sender;
+        this.mdcAdapter = mdcAdapter;
+    }
+
+    @Override
+    public Logger getLogger(String name) {
+        return loggers.computeIfAbsent(name, loggerName -> new LogBullSlf4jLogger(loggerName,
+                settings.levelFor(loggerName), sender, mdcAdapter, formatter, timestampGenerator));
+    }
+}
@@ -0,0 +1,95 @@
+package com.logbull.slf4j.provider;
+
+import org.slf4j.helpers.ThreadLocalMapOfStacks;
+import org.slf4j.spi.MDCAdapter;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MDC adapter with copy-on-write maps. Every change installs a new immutable
+ * map for the thread, so a log call can keep a reference to the current map
+ * instead of copying it.
+ */
+public final class LogBullMDCAdapter implements MDCAdapter {
+    private final ThreadLocal<Map<String, String>> contextMap = new ThreadLocal<>();
+    private final ThreadLocalMapOfStacks stacks = new ThreadLocalMapOfStacks();
+
+    @Override
+    public void put(String key, String value) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        Map<String, String> current = contextMap.get();
+        Map<String, String> updated = current != null ? new HashMap<>(current) : new HashMap<>();
+        updated.put(key, value);
+        contextMap.set(Collections.unmodifiableMap(updated));
+    }
+
+    @Override
+    public String get(String key) {
+        Map<String, String> current = contextMap.get();
+        return current != null && key != null ? current.get(key) : null;
+    }
+
+    @Override
+    public void remove(String key) {
+        Map<String, String> current = contextMap.get();
+        if (current == null || !current.containsKey(key)) {
+            return;
+        }
+        Map<String, String> updated = new HashMap<>(current);
+        updated.remove(key);
+        contextMap.set(updated.isEmpty() ? null : Collections.unmodifiableMap(updated));
+    }
+
+    @Override
+    public void clear() {
+        contextMap.remove();
+    }
+
+    /**
+     * Returns the current immutable context map of the calling thread, or
+     * null if it is empty. The map is never modified afterwards.
+     */
+    Map<String, String> getContextSnapshot() {
+        return contextMap.get();
+    }
+
+    @Override
+    public Map<String, String> getCopyOfContextMap() {
+        Map<String, String> current = contextMap.get();
+        return current != null ? new HashMap<>(current) : null;
+    }
+
+    @Override
+    public void setContextMap(Map<String, String> contextMap) {
+        if (contextMap == null || contextMap.isEmpty()) {
+            this.contextMap.remove();
+        } else {
+            this.contextMap.set(Collections.unmodifiableMap(new HashMap<>(contextMap)));
+        }
+    }
+
+    @Override
+    public void pushByKey(String key, String value) {
+        stacks.pushByKey(key, value);
+    }
+
+    @Override
+    public String popByKey(String key) {
+        return stacks.popByKey(key);
+    }
+
+    @Override
+    public Deque<String> getCopyOfDequeByKey(String key) {
+        return stacks.getCopyOfDequeByKey(key);
+    }
+
+    @Override
+    public void clearDequeByKey(String key) {
+        stacks.clearDequeByKey(key);
+    }
+}
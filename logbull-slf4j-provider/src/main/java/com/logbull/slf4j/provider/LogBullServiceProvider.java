@@ -0,0 +1,69 @@
+package com.logbull.slf4j.provider;
+
+import com.logbull.Config;
+import com.logbull.internal.sender.LogSender;
+import com.logbull.internal.sender.LogSenderRegistry;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.IMarkerFactory;
+import org.slf4j.helpers.BasicMarkerFactory;
+import org.slf4j.spi.MDCAdapter;
+import org.slf4j.spi.SLF4JServiceProvider;
+
+/**
+ * SLF4J 2 provider that sends logs directly to LogBull, without a logging
+ * backend in between. Use it when LogBull is the only log destination.
+ * <p>
+ * Settings are read from {@code logbull.*} system properties and from
+ * {@code logbull.properties} on the classpath. The sender is shared with
+ * LogBull loggers and appenders created with an equal configuration, and
+ * the provider's lease on it is released when the JVM shuts down.
+ */
+public class LogBullServiceProvider implements SLF4JServiceProvider {
+    /**
+     * SLF4J API version reported to {@code LoggerFactory}. Like SLF4J's own
+     * providers, "2.0.99" declares support for every 2.0.x API; the module
+     * itself is compiled against 2.0.9.
+     */
+    public static final String REQUESTED_API_VERSION = "2.0.99";
+
+    private ILoggerFactory loggerFactory;
+    private IMarkerFactory markerFactory;
+    private LogBullMDCAdapter mdcAdapter;
+
+    @Override
+    public ILoggerFactory getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    @Override
+    public IMarkerFactory getMarkerFactory() {
+        return markerFactory;
+    }
+
+    @Override
+    public MDCAdapter getMDCAdapter() {
+        return mdcAdapter;
+    }
+
+    @Override
+    public String getRequestedApiVersion() {
+        return REQUESTED_API_VERSION;
+    }
+
+    @Override
+    public void initialize() {
+        ProviderSettings settings = ProviderSettings.load(LogBullServiceProvider.class.getClassLoader());
+
+        LogSender sender = null;
+        Config config = settings.getConfig();
+        if (config != null) {
+            LogSenderRegistry.Lease lease = LogSenderRegistry.acquire(config);
+            sender = lease.getSender();
+            Runtime.getRuntime().addShutdownHook(new Thread(lease::release, "LogBull-Shutdown"));
+        }
+
+        this.markerFactory = new BasicMarkerFactory();
+        this.mdcAdapter = new LogBullMDCAdapter();
+        this.loggerFactory = new LogBullLoggerFactory(settings, sender, mdcAdapter);
+    }
+}
@@ -0,0 +1,154 @@
+package com.logbull.slf4j.provider;
+
+import com.logbull.core.LogLevel;
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.sender.LogSender;
+import com.logbull.internal.status.StatusCategory;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+import org.slf4j.event.LoggingEvent;
+import org.slf4j.helpers.AbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+import org.slf4j.spi.LoggingEventAware;
+
+import java.util.List;
+
+/**
+ * SLF4J logger that queues events straight into the {@link LogSender}.
+ * <p>
+ * The level threshold is resolved once when the logger is created, so a
+ * disabled call costs one integer comparison. Enabled calls capture their
+ * arguments, MDC map and markers by reference; formatting happens on the
+ * sender thread.
+ */
+final class LogBullSlf4jLogger extends AbstractLogger implements LoggingEventAware {
+    private static final long serialVersionUID = 1L;
+
+    private final transient LogSender sender;
+    private final transient LogBullMDCAdapter mdcAdapter;
+    private final transient Formatter formatter;
+    private final transient TimestampGenerator timestampGenerator;
+    private final int minPriority;
+
+    LogBullSlf4jLogger(String name, LogLevel minLevel, LogSender sender, LogBullMDCAdapter mdcAdapter,
+            Formatter formatter, TimestampGenerator timestampGenerator) {
+        this.name = name;
+        this.sender = sender;
+        this.mdcAdapter = mdcAdapter;
+        this.formatter = formatter;
+        this.timestampGenerator = timestampGenerator;
+        // Without a sender every level is disabled
+        this.minPriority = sender != null ? minLevel.getPriority() : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return LogLevel.DEBUG.getPriority() >= minPriority;
+    }
+
+    @Override
+    public boolean isTraceEnabled(Marker marker) {
+        return isTraceEnabled();
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return LogLevel.DEBUG.getPriority() >= minPriority;
+    }
+
+    @Override
+    public boolean isDebugEnabled(Marker marker) {
+        return isDebugEnabled();
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return LogLevel.INFO.getPriority() >= minPriority;
+    }
+
+    @Override
+    public boolean isInfoEnabled(Marker marker) {
+        return isInfoEnabled();
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return LogLevel.WARNING.getPriority() >= minPriority;
+    }
+
+    @Override
+    public boolean isWarnEnabled(Marker marker) {
+        return isWarnEnabled();
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return LogLevel.ERROR.getPriority() >= minPriority;
+    }
+
+    @Override
+    public boolean isErrorEnabled(Marker marker) {
+        return isErrorEnabled();
+    }
+
+    @Override
+    protected String getFullyQualifiedCallerName() {
+        return null;
+    }
+
+    @Override
+    protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern,
+            Object[] arguments, Throwable throwable) {
+        enqueue(convertSlf4jLevel(level), messagePattern, arguments, throwable,
+                marker != null ? List.of(marker) : null, null);
+    }
+
+    /**
+     * Handles events from the fluent API, including key-value pairs.
+     */
+    @Override
+    public void log(LoggingEvent event) {
+        LogLevel level = convertSlf4jLevel(event.getLevel());
+        if (level.getPriority() < minPriority) {
+            return;
+        }
+
+        Object[] arguments = event.getArgumentArray();
+        Throwable throwable = event.getThrowable();
+        if (throwable == null) {
+            throwable = MessageFormatter.getThrowableCandidate(arguments);
+            if (throwable != null) {
+                arguments = MessageFormatter.trimmedCopy(arguments);
+            }
+        }
+
+        enqueue(level, event.getMessage(), arguments, throwable, event.getMarkers(), event.getKeyValuePairs());
+    }
+
+    private void enqueue(LogLevel level, String messagePattern, Object[] arguments, Throwable throwable,
+            List<Marker> markers, List<KeyValuePair> keyValuePairs) {
+        try {
+            sender.addLog(new DeferredSlf4jEvent(level, messagePattern, arguments, throwable,
+                    mdcAdapter.getContextSnapshot(), markers, keyValuePairs, name,
+                    Thread.currentThread().getName(), formatter, timestampGenerator));
+        } catch (Exception e) {
+            sender.getStatusReporter().report(StatusCategory.INTERNAL, "failed to queue log", e);
+        }
+    }
+
+    private static LogLevel convertSlf4jLevel(Level level) {
+        switch (level) {
+            case TRACE:
+            case DEBUG:
+                return LogLevel.DEBUG;
+            case WARN:
+                return LogLevel.WARNING;
+            case ERROR:
+                return LogLevel.ERROR;
+            default:
+                return LogLevel.INFO;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.logbull.slf4j.provider;
+
+import com.logbull.Config;
+import com.logbull.core.LogLevel;
+import com.logbull.internal.validation.Validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Provider settings read from system properties and from a
+ * {@code logbull.properties} file on the classpath. System properties win.
+ *
+ * <pre>
+ * logbull.projectId = 12345678-1234-1234-1234-123456789012
+ * logbull.host = http://localhost:4005
+ * logbull.apiKey = your-api-key
+ * logbull.logLevel = INFO
+ * logbull.level.com.example.noisy = WARNING
+ * </pre>
+ */
+final class ProviderSettings {
+    static final String PROPERTIES_FILE = "logbull.properties";
+
+    private static final String PREFIX = "logbull.";
+    private static final String LEVEL_PREFIX = "logbull.level.";
+
+    private final Config config;
+    private final LogLevel defaultLevel;
+    private final Map<String, LogLevel> loggerLevels;
+
+    private ProviderSettings(Config config, LogLevel defaultLevel, Map<String, LogLevel> loggerLevels) {
+        this.config = config;
+        this.defaultLevel = defaultLevel;
+        this.loggerLevels = loggerLevels;
+    }
+
+    static ProviderSettings load(ClassLoader classLoader) {
+        Properties properties = new Properties();
+        try (InputStream input = classLoader.getResourceAsStream(PROPERTIES_FILE)) {
+            if (input != null) {
+                properties.load(input);
+            }
+        } catch (IOException e) {
+            System.err.println("LogBull: failed to read " + PROPERTIES_FILE + ": " + e.getMessage());
+        }
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(PREFIX)) {
+                properties.setProperty(name, System.getProperty(name));
+            }
+        }
+        return fromProperties(properties);
+    }
+
+    static ProviderSettings fromProperties(Properties properties) {
+        LogLevel defaultLevel = parseLogLevel(properties.getProperty("logbull.logLevel"), LogLevel.INFO);
+
+        Map<String, LogLevel> loggerLevels = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(LEVEL_PREFIX) && name.length() > LEVEL_PREFIX.length()) {
+                loggerLevels.put(name.substring(LEVEL_PREFIX.length()),
+                        parseLogLevel(properties.getProperty(name), defaultLevel));
+            }
+        }
+
+        return new ProviderSettings(createConfig(properties, defaultLevel), defaultLevel, loggerLevels);
+    }
+
+    /**
+     * Returns the sender configuration, or null if LogBull is not configured.
+     */
+    Config getConfig() {
+        return config;
+    }
+
+    /**
+     * Returns the minimum level for a logger: the level of the closest
+     * configured parent package, or the default level.
+     */
+    LogLevel levelFor(String loggerName) {
+        String name = loggerName;
+        while (true) {
+            LogLevel level = loggerLevels.get(name);
+            if (level != null) {
+                return level;
+            }
+            int dot = name.lastIndexOf('.');
+            if (dot < 0) {
+                return defaultLevel;
+            }
+            name = name.substring(0, dot);
+        }
+    }
+
+    private static Config createConfig(Properties properties, LogLevel defaultLevel) {
+        String projectId = properties.getProperty("logbull.projectId");
+        String host = properties.getProperty("logbull.host");
+        String apiKey = properties.getProperty("logbull.apiKey");
+
+        if (projectId == null || projectId.trim().isEmpty()) {
+            System.err.println("LogBull: logbull.projectId is not set, logs will be discarded");
+            return null;
+        }
+
+        if (host == null || host.trim().isEmpty()) {
+            System.err.println("LogBull: logbull.host is not set, logs will be discarded");
+            return null;
+        }
+
+        try {
+            Validator validator = new Validator();
+            validator.validateProjectId(projectId.trim());
+            validator.validateHostUrl(host.trim());
+            validator.validateApiKey(apiKey != null ? apiKey.trim() : null);
+
+            return Config.builder()
+                    .projectId(projectId.trim())
+                    .host(host.trim())
+                    .apiKey(apiKey != null ? apiKey.trim() : null)
+                    .logLevel(defaultLevel)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            System.err.println("LogBull: invalid configuration, logs will be discarded: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static LogLevel parseLogLevel(String level, LogLevel defaultLevel) {
+        if (level == null || level.trim().isEmpty()) {
+            return defaultLevel;
+        }
+
+        try {
+            return LogLevel.valueOf(level.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("LogBull: invalid log level '" + level + "', defaulting to " + defaultLevel);
+            return defaultLevel;
+        }
+    }
+}
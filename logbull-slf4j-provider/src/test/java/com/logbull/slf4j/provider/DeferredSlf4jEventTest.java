@@ -0,0 +1,89 @@
+package com.logbull.slf4j.provider;
+
+import com.logbull.core.LogEntry;
+import com.logbull.core.LogLevel;
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.sender.BatchSerializer;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.helpers.BasicMarkerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeferredSlf4jEventTest {
+
+    @Test
+    void testMaterializesFormattedMessageAndFields() {
+        IllegalStateException exception = new IllegalStateException("boom");
+        DeferredSlf4jEvent event = new DeferredSlf4jEvent(
+                LogLevel.ERROR,
+                "Processing order {} for {}",
+                new Object[] { "order_1", "user_1" },
+                exception,
+                Map.of("request_id", "req_1", "order_id", "from_mdc"),
+                List.of(new BasicMarkerFactory().getMarker("PAYMENT")),
+                List.of(new KeyValuePair("order_id", "order_1")),
+                "com.example.PaymentService",
+                "worker-1",
+                new Formatter(),
+                new TimestampGenerator());
+
+        LogEntry entry = event.toLogEntry();
+
+        assertEquals("ERROR", entry.getLevel());
+        assertEquals("Processing order order_1 for user_1", entry.getMessage());
+        assertEquals("req_1", entry.getFields().get("request_id"));
+        assertEquals("order_1", entry.getFields().get("order_id"));
+        assertEquals("PAYMENT", entry.getFields().get("marker"));
+        assertEquals("com.example.PaymentService", entry.getFields().get("logger"));
+        assertEquals("worker-1", entry.getFields().get("thread"));
+        assertSame(exception, entry.getThrowable());
+        assertSame(entry, event.toLogEntry());
+    }
+
+    @Test
+    void testSerializesFieldsFromCapturedSources() {
+        DeferredSlf4jEvent event = new DeferredSlf4jEvent(
+                LogLevel.INFO,
+                "Processing order",
+                null,
+                null,
+                Map.of("request_id", "req_1", " order_id ", "from_mdc", "logger", "from_mdc"),
+                List.of(new BasicMarkerFactory().getMarker("PAYMENT"), new BasicMarkerFactory().getMarker("AUDIT")),
+                List.of(new KeyValuePair("order_id", "order_0"), new KeyValuePair("order_id", "order_1"),
+                        new KeyValuePair(" ", "blank")),
+                "com.example.PaymentService",
+                null,
+                new Formatter(),
+                new TimestampGenerator());
+
+        String payload = new String(new BatchSerializer().serialize(List.of(event.toLogEntry())),
+                StandardCharsets.UTF_8);
+
+        assertTrue(payload.contains("\"fields\":{\"request_id\":\"req_1\",\"order_id\":\"order_1\","
+                + "\"marker\":[\"PAYMENT\",\"AUDIT\"],\"logger\":\"com.example.PaymentService\"}"), payload);
+    }
+
+    @Test
+    void testTimestampsFollowLoggingOrderWhenMaterializedOutOfOrder() {
+        TimestampGenerator timestampGenerator = new TimestampGenerator();
+        DeferredSlf4jEvent first = event("First", timestampGenerator);
+        DeferredSlf4jEvent second = event("Second", timestampGenerator);
+
+        // Sender threads may format a later batch before an earlier one
+        String secondTimestamp = second.toLogEntry().getTimestamp();
+        String firstTimestamp = first.toLogEntry().getTimestamp();
+
+        assertTrue(firstTimestamp.compareTo(secondTimestamp) < 0, firstTimestamp + " " + secondTimestamp);
+    }
+
+    private static DeferredSlf4jEvent event(String message, TimestampGenerator timestampGenerator) {
+        return new DeferredSlf4jEvent(LogLevel.INFO, message, null, null, null, null, null,
+                "com.example.PaymentService", "worker-1", new Formatter(), timestampGenerator);
+    }
+}
@@ -0,0 +1,46 @@
+package com.logbull.slf4j.provider;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogBullMDCAdapterTest {
+
+    @Test
+    void testSnapshotIsNotChangedByLaterPuts() {
+        LogBullMDCAdapter adapter = new LogBullMDCAdapter();
+        adapter.put("request_id", "req_1");
+
+        Map<String, String> snapshot = adapter.getContextSnapshot();
+        adapter.put("request_id", "req_2");
+        adapter.remove("request_id");
+
+        assertEquals(Map.of("request_id", "req_1"), snapshot);
+        assertNull(adapter.getContextSnapshot());
+    }
+
+    @Test
+    void testPutGetClear() {
+        LogBullMDCAdapter adapter = new LogBullMDCAdapter();
+        adapter.put("user_id", "user_1");
+
+        assertEquals("user_1", adapter.get("user_id"));
+        assertEquals(Map.of("user_id", "user_1"), adapter.getCopyOfContextMap());
+
+        adapter.clear();
+        assertNull(adapter.get("user_id"));
+        assertNull(adapter.getCopyOfContextMap());
+    }
+
+    @Test
+    void testSetContextMap() {
+        LogBullMDCAdapter adapter = new LogBullMDCAdapter();
+        adapter.setContextMap(Map.of("tenant", "acme"));
+
+        assertEquals("acme", adapter.get("tenant"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> adapter.getContextSnapshot().put("tenant", "other"));
+    }
+}
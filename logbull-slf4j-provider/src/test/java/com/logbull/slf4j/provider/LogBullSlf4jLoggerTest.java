@@ -0,0 +1,59 @@
+package com.logbull.slf4j.provider;
+
+import com.logbull.Config;
+import com.logbull.core.LogLevel;
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.sender.LogSender;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogBullSlf4jLoggerTest {
+    private LogSender sender;
+
+    @AfterEach
+    void tearDown() {
+        if (sender != null) {
+            sender.shutdown();
+        }
+    }
+
+    @Test
+    void testLevelThreshold() {
+        sender = new LogSender(Config.builder()
+                .projectId("12345678-1234-1234-1234-123456789012")
+                .host("http://localhost:4005")
+                .build());
+        LogBullSlf4jLogger logger = createLogger(LogLevel.WARNING, sender);
+
+        assertFalse(logger.isTraceEnabled());
+        assertFalse(logger.isDebugEnabled());
+        assertFalse(logger.isInfoEnabled());
+        assertTrue(logger.isWarnEnabled());
+        assertTrue(logger.isErrorEnabled());
+
+        // Should not throw exceptions
+        logger.warn("Slow request {} ms", 250);
+        logger.error("Request failed", new IllegalStateException("boom"));
+        logger.atWarn().addKeyValue("order_id", "order_1").log("Order delayed");
+    }
+
+    @Test
+    void testWithoutSenderEverythingIsDisabled() {
+        LogBullSlf4jLogger logger = createLogger(LogLevel.DEBUG, null);
+
+        assertFalse(logger.isDebugEnabled());
+        assertFalse(logger.isErrorEnabled());
+
+        // Should not throw exceptions
+        logger.error("Dropped");
+        logger.atError().log("Dropped");
+    }
+
+    private LogBullSlf4jLogger createLogger(LogLevel level, LogSender sender) {
+        return new LogBullSlf4jLogger("com.example.PaymentService", level, sender, new LogBullMDCAdapter(),
+                new Formatter(), new TimestampGenerator());
+    }
+}
@@ -0,0 +1,57 @@
+package com.logbull.slf4j.provider;
+
+import com.logbull.core.LogLevel;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProviderSettingsTest {
+
+    @Test
+    void testFromProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("logbull.projectId", "12345678-1234-1234-1234-123456789012");
+        properties.setProperty("logbull.host", "http://localhost:4005");
+        properties.setProperty("logbull.logLevel", "WARNING");
+
+        ProviderSettings settings = ProviderSettings.fromProperties(properties);
+
+        assertNotNull(settings.getConfig());
+        assertEquals("http://localhost:4005", settings.getConfig().getHost());
+        assertEquals(LogLevel.WARNING, settings.getConfig().getLogLevel());
+        assertEquals(LogLevel.WARNING, settings.levelFor("com.example.Service"));
+    }
+
+    @Test
+    void testLoggerLevelsInheritedByPackage() {
+        Properties properties = new Properties();
+        properties.setProperty("logbull.level.com.example", "DEBUG");
+        properties.setProperty("logbull.level.com.example.noisy", "ERROR");
+
+        ProviderSettings settings = ProviderSettings.fromProperties(properties);
+
+        assertEquals(LogLevel.DEBUG, settings.levelFor("com.example.Service"));
+        assertEquals(LogLevel.ERROR, settings.levelFor("com.example.noisy.Poller"));
+        assertEquals(LogLevel.INFO, settings.levelFor("org.other.Service"));
+        assertEquals(LogLevel.INFO, settings.levelFor("Root"));
+    }
+
+    @Test
+    void testMissingProjectId() {
+        Properties properties = new Properties();
+        properties.setProperty("logbull.host", "http://localhost:4005");
+
+        assertNull(ProviderSettings.fromProperties(properties).getConfig());
+    }
+
+    @Test
+    void testInvalidHost() {
+        Properties properties = new Properties();
+        properties.setProperty("logbull.projectId", "12345678-1234-1234-1234-123456789012");
+        properties.setProperty("logbull.host", "invalid-url");
+
+        assertNull(ProviderSettings.fromProperties(properties).getConfig());
+    }
+}
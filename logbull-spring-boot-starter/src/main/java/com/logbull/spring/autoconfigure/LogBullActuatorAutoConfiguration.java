@@ -0,0 +1,62 @@
+package com.logbull.spring.autoconfigure;
+
+import com.logbull.Config;
+import com.logbull.LogBullLogger;
+import com.logbull.internal.sender.SenderMetrics;
+import com.logbull.slf4j.LogBullLogbackAppender;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exposes LogBull sender metrics to Micrometer and sender health to Actuator
+ * when they are on the classpath.
+ */
+@AutoConfiguration(after = LogBullAutoConfiguration.class)
+@ConditionalOnBean(Config.class)
+public class LogBullActuatorAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    static class MetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public LogBullMeterBinder logBullMeterBinder(ObjectProvider<LogBullLogbackAppender> appender,
+                ObjectProvider<LogBullLogger> logger) {
+            return new LogBullMeterBinder(senderMetrics(appender, logger));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.health.HealthIndicator")
+    @ConditionalOnEnabledHealthIndicator("logbull")
+    static class HealthConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "logBullHealthIndicator")
+        public LogBullHealthIndicator logBullHealthIndicator(ObjectProvider<LogBullLogbackAppender> appender,
+                ObjectProvider<LogBullLogger> logger) {
+            return new LogBullHealthIndicator(senderMetrics(appender, logger));
+        }
+    }
+
+    /**
+     * Returns the counters of whichever sender the starter created, or null
+     * if the appender failed to start.
+     */
+    static SenderMetrics senderMetrics(ObjectProvider<LogBullLogbackAppender> appender,
+            ObjectProvider<LogBullLogger> logger) {
+        LogBullLogbackAppender logbackAppender = appender.getIfAvailable();
+        if (logbackAppender != null) {
+            return logbackAppender.getSenderMetrics();
+        }
+        LogBullLogger standaloneLogger = logger.getIfAvailable();
+        return standaloneLogger != null ? standaloneLogger.getSenderMetrics() : null;
+    }
+}
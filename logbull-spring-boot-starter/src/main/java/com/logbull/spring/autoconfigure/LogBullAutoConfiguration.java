@@ -1,21 +1,30 @@
 package com.logbull.spring.autoconfigure;
 
 import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
 import com.logbull.Config;
 import com.logbull.LogBullLogger;
 import com.logbull.slf4j.LogBullLogbackAppender;
+import com.logbull.slf4j.LogBullTurboFilter;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.util.StringUtils;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 
+import java.time.Duration;
+import java.util.Iterator;
+
 /**
  * Auto-configuration for LogBull integration with Spring Boot.
  */
@@ -27,6 +36,7 @@ public class LogBullAutoConfiguration {
 
     private final LogBullProperties properties;
     private LogBullLogbackAppender appender;
+    private LogBullTurboFilter turboFilter;
 
     public LogBullAutoConfiguration(LogBullProperties properties) {
         this.properties = properties;
@@ -44,6 +54,26 @@ public class LogBullAutoConfiguration {
                     "LogBull host is required. Please set 'logbull.host' in your application properties " +
                             "or disable LogBull by setting 'logbull.enabled=false'");
         }
+        validateSenderProperties(properties.getSender());
+    }
+
+    static void validateSenderProperties(LogBullProperties.Sender sender) {
+        if (sender.getBatchInterval().isNegative() || sender.getBatchInterval().isZero()) {
+            throw new IllegalStateException("LogBull 'logbull.sender.batch-interval' must be positive");
+        }
+        if (sender.getHttpTimeout().isNegative() || sender.getHttpTimeout().isZero()) {
+            throw new IllegalStateException("LogBull 'logbull.sender.http-timeout' must be positive");
+        }
+        if (sender.getShutdownTimeout().isNegative() || sender.getShutdownTimeout().isZero()) {
+            throw new IllegalStateException("LogBull 'logbull.sender.shutdown-timeout' must be positive");
+        }
+        if (sender.getRetryBackoff().isNegative() || sender.getRetryBackoff().isZero()) {
+            throw new IllegalStateException("LogBull 'logbull.sender.retry-backoff' must be positive");
+        }
+        if (sender.getMinWorkers() > sender.getMaxWorkers()) {
+            throw new IllegalStateException(
+                    "LogBull 'logbull.sender.min-workers' cannot be greater than 'logbull.sender.max-workers'");
+        }
     }
 
     /**
@@ -52,11 +82,26 @@ public class LogBullAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean
     public Config logBullConfig() {
+        return createConfig(properties);
+    }
+
+    static Config createConfig(LogBullProperties properties) {
+        LogBullProperties.Sender sender = properties.getSender();
         return Config.builder()
                 .projectId(properties.getProjectId())
                 .host(properties.getHost())
                 .apiKey(properties.getApiKey())
                 .logLevel(properties.getLogLevel())
+                .consoleOutput(properties.isConsoleOutput())
+                .batchSize(sender.getBatchSize())
+                .batchIntervalMillis(sender.getBatchInterval().toMillis())
+                .queueCapacity(sender.getQueueCapacity())
+                .minWorkers(sender.getMinWorkers())
+                .maxWorkers(sender.getMaxWorkers())
+                .httpTimeoutMillis(toIntMillis(sender.getHttpTimeout()))
+                .shutdownTimeoutMillis(sender.getShutdownTimeout().toMillis())
+                .maxRetries(sender.getMaxRetries())
+                .retryBackoffMillis(sender.getRetryBackoff().toMillis())
                 .build();
     }
 
@@ -86,6 +131,16 @@ public class LogBullAutoConfiguration {
         appender.setHost(properties.getHost());
         appender.setApiKey(properties.getApiKey());
         appender.setLogLevel(properties.getLogLevel().toString());
+        LogBullProperties.Sender sender = properties.getSender();
+        appender.setBatchSize(sender.getBatchSize());
+        appender.setBatchIntervalMillis(sender.getBatchInterval().toMillis());
+        appender.setQueueCapacity(sender.getQueueCapacity());
+        appender.setMinWorkers(sender.getMinWorkers());
+        appender.setMaxWorkers(sender.getMaxWorkers());
+        appender.setHttpTimeoutMillis(toIntMillis(sender.getHttpTimeout()));
+        appender.setShutdownTimeoutMillis(sender.getShutdownTimeout().toMillis());
+        appender.setMaxRetries(sender.getMaxRetries());
+        appender.setRetryBackoffMillis(sender.getRetryBackoff().toMillis());
 
         appender.start();
 
@@ -93,13 +148,122 @@ public class LogBullAutoConfiguration {
         ch.qos.logback.classic.Logger rootLogger = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
         rootLogger.addAppender(appender);
 
+        if (properties.isTurboFilter()) {
+            installTurboFilter(context);
+        }
+
         return appender;
     }
 
+    /**
+     * Drains the sender after the rest of the application has stopped, so
+     * logs written during graceful shutdown are still delivered.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LogBullSenderLifecycle logBullSenderLifecycle(ObjectProvider<LogBullLogbackAppender> appender,
+            ObjectProvider<LogBullLogger> logger) {
+        return new LogBullSenderLifecycle(() -> {
+            appender.ifAvailable(LogBullLogbackAppender::stop);
+            logger.ifAvailable(LogBullLogger::shutdown);
+        });
+    }
+
+    /**
+     * Applies level and sender changes of the {@code logbull.*} properties
+     * to the running appender or logger.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LogBullReconfigurer logBullReconfigurer(Environment environment, ObjectProvider<LogBullLogger> logger) {
+        return new LogBullReconfigurer(environment, updated -> applyProperties(updated, logger));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.cloud.context.environment.EnvironmentChangeEvent")
+    static class RefreshConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public LogBullRefreshListener logBullRefreshListener(LogBullReconfigurer reconfigurer) {
+            return new LogBullRefreshListener(reconfigurer);
+        }
+    }
+
+    private void applyProperties(LogBullProperties updated, ObjectProvider<LogBullLogger> logger) {
+        validateSenderProperties(updated.getSender());
+        Config config = createConfig(updated);
+
+        LogBullLogger standaloneLogger = logger.getIfAvailable();
+        // Check every component before changing any, so a rejected change
+        // leaves all of them on the previous settings
+        if (standaloneLogger != null) {
+            standaloneLogger.checkReconfigurable(config);
+        }
+        if (appender != null) {
+            appender.checkReconfigurable(config);
+        }
+        if (turboFilter != null && (updated.getSampleRate() < 0.0 || updated.getSampleRate() > 1.0)) {
+            throw new IllegalArgumentException(
+                    "LogBull 'logbull.sample-rate' must be between 0.0 and 1.0, got " + updated.getSampleRate());
+        }
+
+        if (standaloneLogger != null) {
+            standaloneLogger.reconfigure(config);
+        }
+        if (appender != null) {
+            appender.reconfigure(config);
+        }
+        if (turboFilter != null) {
+            turboFilter.reconfigure(config.getLogLevel(), updated.getSampleRate());
+        }
+    }
+
     @PreDestroy
     public void cleanup() {
-        if (appender != null) {
+        if (turboFilter != null) {
+            turboFilter.stop();
+            ((LoggerContext) LoggerFactory.getILoggerFactory()).getTurboFilterList().remove(turboFilter);
+        }
+        // Normally stopped by the lifecycle already, unless the context
+        // failed before it was started
+        if (appender != null && appender.isStarted()) {
             appender.stop();
         }
     }
+
+    /**
+     * Installs the LogBull turbo filter if LogBull is the only appender, since
+     * denied calls would not reach any other appender either.
+     */
+    private void installTurboFilter(LoggerContext context) {
+        if (!isOnlyAppender(context, appender)) {
+            appender.addWarn("LogBull turbo filter not installed: other appenders are attached");
+            return;
+        }
+
+        turboFilter = new LogBullTurboFilter();
+        turboFilter.setContext(context);
+        turboFilter.setName("LOGBULL_TURBO");
+        turboFilter.setLogLevel(properties.getLogLevel().toString());
+        turboFilter.setSampleRate(properties.getSampleRate());
+        turboFilter.start();
+        context.addTurboFilter(turboFilter);
+    }
+
+    private static int toIntMillis(Duration duration) {
+        return (int) Math.min(duration.toMillis(), Integer.MAX_VALUE);
+    }
+
+    private boolean isOnlyAppender(LoggerContext context, LogBullLogbackAppender logBullAppender) {
+        for (ch.qos.logback.classic.Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() != logBullAppender) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,37 @@
+package com.logbull.spring.autoconfigure;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Adds {@link LogBullHealthIndicator#DEGRADED} to the default health status
+ * order, between {@code OUT_OF_SERVICE} and {@code UP}, so that a degraded
+ * sender shows in the aggregated health. Statuses missing from the order
+ * are left out of the aggregate, so it would otherwise stay {@code UP}.
+ * <p>
+ * The order is added as the lowest-precedence property source, so an order
+ * configured by the application replaces it.
+ */
+public class LogBullHealthEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+    static final String PROPERTY_SOURCE_NAME = "logbullHealthDefaults";
+    static final String STATUS_ORDER_PROPERTY = "management.endpoint.health.status.order";
+    static final String STATUS_ORDER = "DOWN,OUT_OF_SERVICE,DEGRADED,UP,UNKNOWN";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        environment.getPropertySources().addLast(
+                new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of(STATUS_ORDER_PROPERTY, STATUS_ORDER)));
+    }
+
+    @Override
+    public int getOrder() {
+        // After application properties are loaded, so they take precedence
+        return ConfigDataEnvironmentPostProcessor.ORDER + 1;
+    }
+}
@@ -0,0 +1,49 @@
+package com.logbull.spring.autoconfigure;
+
+import com.logbull.internal.sender.SenderMetrics;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * Reports the LogBull sender as degraded while its queue is close to full or
+ * while consecutive batches keep failing. The sender has no circuit breaker,
+ * so a run of failed batches stands in for an open circuit.
+ *
+ * @see LogBullHealthEnvironmentPostProcessor
+ */
+public class LogBullHealthIndicator implements HealthIndicator {
+    public static final Status DEGRADED = new Status("DEGRADED", "LogBull sender is backlogged or failing");
+
+    static final double BACKLOG_RATIO = 0.8;
+    static final long FAILURE_THRESHOLD = 3;
+
+    private final SenderMetrics metrics;
+
+    public LogBullHealthIndicator(SenderMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Health health() {
+        if (metrics == null) {
+            return Health.unknown().withDetail("reason", "sender not started").build();
+        }
+
+        int queueDepth = metrics.getQueueDepth();
+        int queueCapacity = metrics.getQueueCapacity();
+        long consecutiveFailures = metrics.getConsecutiveFailedBatches();
+        boolean backlogged = queueDepth >= queueCapacity * BACKLOG_RATIO;
+        boolean failing = consecutiveFailures >= FAILURE_THRESHOLD;
+
+        return Health.status(backlogged || failing ? DEGRADED : Status.UP)
+                .withDetail("queueDepth", queueDepth)
+                .withDetail("queueCapacity", queueCapacity)
+                .withDetail("backlogged", backlogged)
+                .withDetail("consecutiveFailedBatches", consecutiveFailures)
+                .withDetail("failing", failing)
+                .withDetail("droppedQueueFull", metrics.getDroppedQueueFull())
+                .withDetail("inFlightBatches", metrics.getInFlightBatches())
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.logbull.spring.autoconfigure;
+
+import com.logbull.internal.sender.SendListener;
+import com.logbull.internal.sender.SenderMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Binds LogBull sender counters to Micrometer. Counters and gauges read the
+ * sender's own counters; batch distributions and send timers are recorded
+ * as batches complete.
+ */
+public class LogBullMeterBinder implements MeterBinder, SendListener {
+    private final SenderMetrics metrics;
+    private final Map<String, Timer> sendTimers = new ConcurrentHashMap<>();
+
+    private MeterRegistry registry;
+    private DistributionSummary batchSize;
+    private DistributionSummary batchBytes;
+
+    /**
+     * @param metrics sender counters, or null if no sender was started
+     */
+    public LogBullMeterBinder(SenderMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (metrics == null) {
+            // The appender failed to start, there is nothing to measure
+            return;
+        }
+        this.registry = registry;
+
+        counter(registry, "logbull.logs.enqueued", "Logs accepted into the send queue",
+                SenderMetrics::getEnqueuedLogs);
+        droppedCounter(registry, "queue_full", SenderMetrics::getDroppedQueueFull);
+        droppedCounter(registry, "shutdown", SenderMetrics::getDroppedAfterShutdown);
+        droppedCounter(registry, "format_failure", SenderMetrics::getDroppedFormatFailure);
+        counter(registry, "logbull.logs.sent", "Logs accepted by the server",
+                SenderMetrics::getLogsSent);
+        counter(registry, "logbull.logs.rejected", "Logs rejected by the server",
+                SenderMetrics::getLogsRejected);
+        counter(registry, "logbull.batches.retried", "Batch requests resent after a failure",
+                SenderMetrics::getRetries);
+
+        Gauge.builder("logbull.queue.depth", metrics, SenderMetrics::getQueueDepth)
+                .description("Logs waiting to be sent")
+                .register(registry);
+        Gauge.builder("logbull.queue.capacity", metrics, SenderMetrics::getQueueCapacity)
+                .description("Maximum number of queued logs")
+                .register(registry);
+        Gauge.builder("logbull.batches.in.flight", metrics, SenderMetrics::getInFlightBatches)
+                .description("Batches whose HTTP request has not completed")
+                .register(registry);
+        Gauge.builder("logbull.batches.consecutive.failures", metrics,
+                SenderMetrics::getConsecutiveFailedBatches)
+                .description("Batches that failed since the last successful one")
+                .register(registry);
+
+        batchSize = DistributionSummary.builder("logbull.batch.size")
+                .description("Logs per sent batch")
+                .register(registry);
+        batchBytes = DistributionSummary.builder("logbull.batch.bytes")
+                .description("Request body size of sent batches")
+                .baseUnit("bytes")
+                .register(registry);
+
+        metrics.addSendListener(this);
+    }
+
+    @Override
+    public void onBatchCompleted(String status, boolean success, int logs, int bytes, long nanos) {
+        if (success) {
+            batchSize.record(logs);
+            batchBytes.record(bytes);
+        }
+        sendTimers.computeIfAbsent(status, key -> Timer.builder("logbull.send")
+                .description("Duration of batch HTTP requests")
+                .tag("status", key)
+                .tag("outcome", success ? "success" : "failure")
+                .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void droppedCounter(MeterRegistry registry, String reason, ToDoubleFunction<SenderMetrics> count) {
+        FunctionCounter.builder("logbull.logs.dropped", metrics, count)
+                .description("Logs dropped before being sent")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String name, String description,
+            ToDoubleFunction<SenderMetrics> count) {
+        FunctionCounter.builder(name, metrics, count)
+                .description(description)
+                .register(registry);
+    }
+}
@@ -1,10 +1,18 @@
 package com.logbull.spring.autoconfigure;
 
+import com.logbull.Config;
 import com.logbull.core.LogLevel;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
 
 /**
  * Configuration properties for LogBull Spring Boot integration.
@@ -40,6 +48,32 @@ public class LogBullProperties {
      */
     private LogLevel logLevel = LogLevel.INFO;
 
+    /**
+     * Echo logs of the standalone logger to the console.
+     */
+    private boolean consoleOutput = true;
+
+    /**
+     * Reject log calls below the LogBull log level, and sampled-out calls,
+     * before Logback creates events for them. Only takes effect when the
+     * LogBull appender is the only Logback appender.
+     */
+    private boolean turboFilter = false;
+
+    /**
+     * Fraction of DEBUG and INFO calls to keep when the turbo filter is
+     * installed, from 0.0 to 1.0.
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double sampleRate = 1.0;
+
+    /**
+     * Batching, queueing and HTTP settings of the sender.
+     */
+    @Valid
+    private final Sender sender = new Sender();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -79,4 +113,166 @@ public class LogBullProperties {
     public void setLogLevel(LogLevel logLevel) {
         this.logLevel = logLevel;
     }
+
+    public boolean isConsoleOutput() {
+        return consoleOutput;
+    }
+
+    public void setConsoleOutput(boolean consoleOutput) {
+        this.consoleOutput = consoleOutput;
+    }
+
+    public boolean isTurboFilter() {
+        return turboFilter;
+    }
+
+    public void setTurboFilter(boolean turboFilter) {
+        this.turboFilter = turboFilter;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public Sender getSender() {
+        return sender;
+    }
+
+    /**
+     * Sender settings, see {@link Config.Builder} for their meaning.
+     */
+    public static class Sender {
+
+        /**
+         * Maximum number of logs sent in one request.
+         */
+        @Min(1)
+        private int batchSize = Config.DEFAULT_BATCH_SIZE;
+
+        /**
+         * Interval between scheduled sends of queued logs.
+         */
+        @NotNull
+        private Duration batchInterval = Duration.ofMillis(Config.DEFAULT_BATCH_INTERVAL_MILLIS);
+
+        /**
+         * Maximum number of logs waiting to be sent, further logs are dropped.
+         */
+        @Min(1)
+        private int queueCapacity = Config.DEFAULT_QUEUE_CAPACITY;
+
+        /**
+         * Number of HTTP sender threads kept while idle, more are started up
+         * to max-workers under load.
+         */
+        @Min(1)
+        private int minWorkers = Config.DEFAULT_MIN_WORKERS;
+
+        /**
+         * Maximum number of HTTP sender threads.
+         */
+        @Min(1)
+        private int maxWorkers = Config.DEFAULT_MAX_WORKERS;
+
+        /**
+         * Connect and read timeout of requests.
+         */
+        @NotNull
+        private Duration httpTimeout = Duration.ofMillis(Config.DEFAULT_HTTP_TIMEOUT_MILLIS);
+
+        /**
+         * Deadline for sending the logs still queued when the application
+         * shuts down, logs left after it are dropped.
+         */
+        @NotNull
+        private Duration shutdownTimeout = Duration.ofMillis(Config.DEFAULT_SHUTDOWN_TIMEOUT_MILLIS);
+
+        /**
+         * Number of times a failed batch is resent, 0 disables retries.
+         */
+        @Min(0)
+        private int maxRetries = Config.DEFAULT_MAX_RETRIES;
+
+        /**
+         * Wait before the first retry of a batch, doubled for every further retry.
+         */
+        @NotNull
+        private Duration retryBackoff = Duration.ofMillis(Config.DEFAULT_RETRY_BACKOFF_MILLIS);
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getBatchInterval() {
+            return batchInterval;
+        }
+
+        public void setBatchInterval(Duration batchInterval) {
+            this.batchInterval = batchInterval;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getMinWorkers() {
+            return minWorkers;
+        }
+
+        public void setMinWorkers(int minWorkers) {
+            this.minWorkers = minWorkers;
+        }
+
+        public int getMaxWorkers() {
+            return maxWorkers;
+        }
+
+        public void setMaxWorkers(int maxWorkers) {
+            this.maxWorkers = maxWorkers;
+        }
+
+        public Duration getHttpTimeout() {
+            return httpTimeout;
+        }
+
+        public void setHttpTimeout(Duration httpTimeout) {
+            this.httpTimeout = httpTimeout;
+        }
+
+        public Duration getShutdownTimeout() {
+            return shutdownTimeout;
+        }
+
+        public void setShutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+        }
+
+        public int getMaxRetries() {
+            return maxRetries;
+        }
+
+        public void setMaxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+        }
+
+        public Duration getRetryBackoff() {
+            return retryBackoff;
+        }
+
+        public void setRetryBackoff(Duration retryBackoff) {
+            this.retryBackoff = retryBackoff;
+        }
+    }
 }
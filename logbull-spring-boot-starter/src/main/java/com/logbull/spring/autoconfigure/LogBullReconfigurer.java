@@ -0,0 +1,39 @@
+package com.logbull.spring.autoconfigure;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+import java.util.function.Consumer;
+
+/**
+ * Re-reads the {@code logbull.*} properties from the {@link Environment} and
+ * applies changed levels and sender settings to the running appender or
+ * standalone logger, without restarting them or dropping queued logs.
+ * <p>
+ * With Spring Cloud, this runs on every environment refresh that changes a
+ * {@code logbull.*} property. Otherwise call {@link #reconfigure()} after
+ * updating the environment.
+ */
+public class LogBullReconfigurer {
+    private final Environment environment;
+    private final Consumer<LogBullProperties> applier;
+
+    LogBullReconfigurer(Environment environment, Consumer<LogBullProperties> applier) {
+        this.environment = environment;
+        this.applier = applier;
+    }
+
+    /**
+     * Applies the current {@code logbull.*} properties.
+     *
+     * @throws IllegalStateException if a sender property is invalid, or the
+     *         sender is shared with a logger or appender created outside the
+     *         starter from an equal configuration
+     * @throws IllegalArgumentException if the project, host, API key, queue
+     *         capacity or console output changed, which need a restart
+     */
+    public void reconfigure() {
+        LogBullProperties properties = Binder.get(environment).bindOrCreate("logbull", LogBullProperties.class);
+        applier.accept(properties);
+    }
+}
@@ -0,0 +1,34 @@
+package com.logbull.spring.autoconfigure;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Reconfigures LogBull when a Spring Cloud environment refresh changes a
+ * {@code logbull.*} property. The components are updated in place, unlike
+ * {@code @RefreshScope} beans, which would be rebuilt and lose their queue.
+ */
+public class LogBullRefreshListener implements ApplicationListener<EnvironmentChangeEvent> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogBullRefreshListener.class);
+
+    private final LogBullReconfigurer reconfigurer;
+
+    public LogBullRefreshListener(LogBullReconfigurer reconfigurer) {
+        this.reconfigurer = reconfigurer;
+    }
+
+    @Override
+    public void onApplicationEvent(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().noneMatch(key -> key.startsWith("logbull."))) {
+            return;
+        }
+        try {
+            reconfigurer.reconfigure();
+        } catch (RuntimeException e) {
+            // Keep running with the previous settings
+            LOGGER.warn("Failed to apply changed LogBull properties: {}", e.getMessage());
+        }
+    }
+}
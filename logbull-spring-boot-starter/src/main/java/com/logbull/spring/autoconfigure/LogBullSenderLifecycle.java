@@ -0,0 +1,64 @@
+package com.logbull.spring.autoconfigure;
+
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Stops the LogBull sender in the last lifecycle phase, after the web server
+ * and other components have shut down. The queued logs are drained on a
+ * separate thread so the remaining components of the phase stop in parallel;
+ * the drain is bounded by {@code logbull.sender.shutdown-timeout}.
+ */
+public class LogBullSenderLifecycle implements SmartLifecycle {
+    /**
+     * Lowest phase, stopped after every other lifecycle bean.
+     */
+    public static final int PHASE = Integer.MIN_VALUE;
+
+    private final Runnable drain;
+    private volatile boolean running;
+
+    public LogBullSenderLifecycle(Runnable drain) {
+        this.drain = drain;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        try {
+            drain.run();
+        } finally {
+            running = false;
+        }
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        if (!running) {
+            callback.run();
+            return;
+        }
+        Thread drainThread = new Thread(() -> {
+            try {
+                stop();
+            } finally {
+                callback.run();
+            }
+        }, "LogBull-Shutdown");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
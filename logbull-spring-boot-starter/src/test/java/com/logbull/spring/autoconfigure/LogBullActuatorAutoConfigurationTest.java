@@ -0,0 +1,112 @@
+package com.logbull.spring.autoconfigure;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.SimpleStatusAggregator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogBullActuatorAutoConfigurationTest {
+
+        private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+                        .withConfiguration(AutoConfigurations.of(
+                                        LogBullAutoConfiguration.class,
+                                        LogBullActuatorAutoConfiguration.class))
+                        .withPropertyValues(
+                                        "logbull.project-id=12345678-1234-1234-1234-123456789012",
+                                        "logbull.host=http://localhost:4005");
+
+        @Test
+        void meterBinderRegistersSenderMeters() {
+                contextRunner.run(context -> {
+                        assertThat(context).hasSingleBean(LogBullMeterBinder.class);
+
+                        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+                        context.getBean(LogBullMeterBinder.class).bindTo(registry);
+
+                        assertThat(registry.get("logbull.logs.enqueued").functionCounter()).isNotNull();
+                        assertThat(registry.get("logbull.logs.dropped").tag("reason", "queue_full")
+                                        .functionCounter()).isNotNull();
+                        assertThat(registry.get("logbull.queue.capacity").gauge().value()).isEqualTo(10_000);
+                        assertThat(registry.get("logbull.batch.bytes").summary()).isNotNull();
+                        assertThat(registry.get("logbull.batches.retried").functionCounter()).isNotNull();
+                });
+        }
+
+        @Test
+        void meterBinderIsNotCreatedWithoutMicrometer() {
+                contextRunner
+                                .withClassLoader(new FilteredClassLoader(MeterBinder.class))
+                                .run(context -> {
+                                        assertThat(context).hasNotFailed();
+                                        assertThat(context).doesNotHaveBean(LogBullMeterBinder.class);
+                                });
+        }
+
+        @Test
+        void healthIndicatorReportsUpForIdleSender() {
+                contextRunner.run(context -> {
+                        Health health = context.getBean(LogBullHealthIndicator.class).health();
+
+                        assertThat(health.getStatus()).isEqualTo(Status.UP);
+                        assertThat(health.getDetails())
+                                        .containsEntry("queueDepth", 0)
+                                        .containsEntry("backlogged", false)
+                                        .containsEntry("failing", false);
+                });
+        }
+
+        @Test
+        void degradedStatusIsRankedAboveUp() {
+                StandardEnvironment environment = new StandardEnvironment();
+                new LogBullHealthEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+
+                String[] order = environment.getProperty("management.endpoint.health.status.order", String[].class);
+                SimpleStatusAggregator aggregator = new SimpleStatusAggregator(order);
+
+                assertThat(aggregator.getAggregateStatus(Status.UP, LogBullHealthIndicator.DEGRADED))
+                                .isEqualTo(LogBullHealthIndicator.DEGRADED);
+                assertThat(aggregator.getAggregateStatus(Status.DOWN, LogBullHealthIndicator.DEGRADED))
+                                .isEqualTo(Status.DOWN);
+        }
+
+        @Test
+        void configuredStatusOrderTakesPrecedence() {
+                StandardEnvironment environment = new StandardEnvironment();
+                environment.getPropertySources().addFirst(new MapPropertySource("application",
+                                Map.of("management.endpoint.health.status.order", "DOWN,UP")));
+                new LogBullHealthEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+
+                assertThat(environment.getProperty("management.endpoint.health.status.order")).isEqualTo("DOWN,UP");
+        }
+
+        @Test
+        void healthIndicatorCanBeDisabled() {
+                contextRunner
+                                .withPropertyValues("management.health.logbull.enabled=false")
+                                .run(context -> {
+                                        assertThat(context).doesNotHaveBean(LogBullHealthIndicator.class);
+                                });
+        }
+
+        @Test
+        void nothingIsCreatedWhenLogBullIsDisabled() {
+                contextRunner
+                                .withPropertyValues("logbull.enabled=false")
+                                .run(context -> {
+                                        assertThat(context).doesNotHaveBean(LogBullMeterBinder.class);
+                                        assertThat(context).doesNotHaveBean(LogBullHealthIndicator.class);
+                                });
+        }
+}
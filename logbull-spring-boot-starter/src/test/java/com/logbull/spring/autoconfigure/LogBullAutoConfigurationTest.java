@@ -1,14 +1,23 @@
 package com.logbull.spring.autoconfigure;
 
+import ch.qos.logback.classic.LoggerContext;
 import com.logbull.Config;
 import com.logbull.LogBullLogger;
 import com.logbull.core.LogLevel;
 import com.logbull.slf4j.LogBullLogbackAppender;
+import com.logbull.slf4j.LogBullTurboFilter;
 import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 class LogBullAutoConfigurationTest {
 
@@ -48,6 +57,65 @@ class LogBullAutoConfigurationTest {
                                 });
         }
 
+        @Test
+        void senderPropertiesAreAppliedToConfig() {
+                contextRunner
+                                .withPropertyValues(
+                                                "logbull.project-id=12345678-1234-1234-1234-123456789012",
+                                                "logbull.host=http://localhost:4005",
+                                                "logbull.sender.batch-size=5000",
+                                                "logbull.sender.batch-interval=200ms",
+                                                "logbull.sender.queue-capacity=100000",
+                                                "logbull.sender.min-workers=2",
+                                                "logbull.sender.max-workers=4",
+                                                "logbull.sender.http-timeout=5s",
+                                                "logbull.sender.shutdown-timeout=2s",
+                                                "logbull.sender.max-retries=0",
+                                                "logbull.sender.retry-backoff=1s")
+                                .run(context -> {
+                                        Config config = context.getBean(Config.class);
+                                        assertThat(config.getBatchSize()).isEqualTo(5_000);
+                                        assertThat(config.getBatchIntervalMillis()).isEqualTo(200);
+                                        assertThat(config.getQueueCapacity()).isEqualTo(100_000);
+                                        assertThat(config.getMinWorkers()).isEqualTo(2);
+                                        assertThat(config.getMaxWorkers()).isEqualTo(4);
+                                        assertThat(config.getHttpTimeoutMillis()).isEqualTo(5_000);
+                                        assertThat(config.getShutdownTimeoutMillis()).isEqualTo(2_000);
+                                        assertThat(config.getMaxRetries()).isZero();
+                                        assertThat(config.getRetryBackoffMillis()).isEqualTo(1_000);
+                                        assertThat(context.getBean(LogBullLogbackAppender.class)
+                                                        .getSenderMetrics().getQueueCapacity()).isEqualTo(100_000);
+                                });
+        }
+
+        @Test
+        void applicationFailsToStartWhenBatchSizeIsNotPositive() {
+                contextRunner
+                                .withPropertyValues(
+                                                "logbull.project-id=12345678-1234-1234-1234-123456789012",
+                                                "logbull.host=http://localhost:4005",
+                                                "logbull.sender.batch-size=0")
+                                .run(context -> {
+                                        assertThat(context).hasFailed();
+                                });
+        }
+
+        @Test
+        void applicationFailsToStartWhenMinWorkersExceedMaxWorkers() {
+                contextRunner
+                                .withPropertyValues(
+                                                "logbull.project-id=12345678-1234-1234-1234-123456789012",
+                                                "logbull.host=http://localhost:4005",
+                                                "logbull.sender.min-workers=5",
+                                                "logbull.sender.max-workers=2")
+                                .run(context -> {
+                                        assertThat(context).hasFailed();
+                                        assertThat(context.getStartupFailure())
+                                                        .rootCause()
+                                                        .hasMessageContaining("logbull.sender.min-workers");
+                                });
+        }
+
         @Test
         void logbackAppenderIsCreatedByDefault() {
                 contextRunner
@@ -60,6 +128,158 @@ class LogBullAutoConfigurationTest {
                                 });
         }
 
+        @Test
+        void senderIsStoppedByLifecycleOnClose() {
+                contextRunner
+                                .withPropertyValues(
+                                                "logbull.project-id=12345678-1234-1234-1234-123456789012",
+                                                "logbull.host=http://localhost:4005")
+                                .run(context -> {
+                                        LogBullSenderLifecycle lifecycle = context.getBean(LogBullSenderLifecycle.class);
+                                        LogBullLogbackAppender appender = context.getBean(LogBullLogbackAppender.class);
+                                        assertThat(lifecycle.isRunning()).isTrue();
+                                        assertThat(lifecycle.getPhase()).isEqualTo(Integer.MIN_VALUE);
+
+                                        context.close();
+
+                                        assertThat(lifecycle.isRunning()).isFalse();
+                                        assertThat(appender.isStarted()).isFalse();
+                                });
+        }
+
+        @Test
+        void reconfigurerAppliesChangedLevelAndSenderSettings() {
+                contextRunner
+                                .withPropertyValues(
+                                                "logbull.project-id=12345678-1234-1234-1234-123456789012",
+                                                "logbull.host=http://localhost:4005",
+                                                "logbull.use-standalone-logger=true",
+                                                "logbull.console-output=false")
+                                .run(context -> {
+                                        LogBullLogger logger = context.getBean(LogBullLogger.class);
+                                        assertThat(logger.isDebugEnabled()).isFalse();
+
+                                        TestPropertyValues.of(
+                                                        "logbull.log-level=DEBUG",
+                                                        "logbull.sender.batch-size=50")
+                                                        .applyTo((ConfigurableEnvironment) context.getEnvironment());
+                                        context.getBean(LogBullReconfigurer.class).reconfigure();
+
+                                        assertThat(logger.isDebugEnabled()).isTrue();
+                                        assertThat(logger.getConfig().getBatchSize()).isEqualTo(50);
+                                });
+        }
+
+        @Test
+        void environmentChangeEventReconfiguresLogger() {
+                contextRunner
+                                .withPropertyValues(
+                                                "logbull.project-id=12345678-1234-1234-1234-123456789012",
+                                                "logbull.host=http://localhost:4005",
+                                                "logbull.use-standalone-logger=true",
+                                                "logbull.console-output=false")
+                                .run(context -> {
+                                        assertThat(context).hasSingleBean(LogBullRefreshListener.class);
+                                        LogBullLogger logger = context.getBean(LogBullLogger.class);
+
+                                        TestPropertyValues.of("logbull.log-level=DEBUG")
+                                                        .applyTo((ConfigurableEnvironment) context.getEnvironment());
+                                        context.publishEvent(new EnvironmentChangeEvent(Set.of("logbull.log-level")));
+
+                                        assertThat(logger.isDebugEnabled()).isTrue();
+                                });
+        }
+
+        @Test
+        void reconfigureRejectsProjectChangeAndKeepsSettings() {
+                contextRunner
+                                .withPropertyValues(
+                                                "logbull.project-id=12345678-1234-1234-1234-123456789012",
+                                                "logbull.host=http://localhost:4005")
+                                .run(context -> {
+                                        TestPropertyValues.of(
+                                                        "logbull.project-id=87654321-4321-4321-4321-210987654321",
+                                                        "logbull.log-level=DEBUG")
+                                                        .applyTo((ConfigurableEnvironment) context.getEnvironment());
+
+                                        assertThatIllegalArgumentException().isThrownBy(
+                                                        () -> context.getBean(LogBullReconfigurer.class).reconfigure());
+                                        context.publishEvent(new EnvironmentChangeEvent(Set.of("logbull.project-id")));
+                                        assertThat(context).hasNotFailed();
+                                });
+        }
+
+        @Test
+        void rejectedReconfigureLeavesLoggerAndAppenderUnchanged() {
+                // The logger already runs with the new queue capacity, only the appender rejects it
+                Config loggerConfig = Config.builder()
+                                .projectId("12345678-1234-1234-1234-123456789012")
+                                .host("http://localhost:4005")
+                                .consoleOutput(false)
+                                .queueCapacity(5_000)
+                                .build();
+                contextRunner
+                                .withBean(LogBullLogger.class, () -> LogBullLogger.create(loggerConfig))
+                                .withPropertyValues(
+                                                "logbull.project-id=12345678-1234-1234-1234-123456789012",
+                                                "logbull.host=http://localhost:4005",
+                                                "logbull.console-output=false")
+                                .run(context -> {
+                                        LogBullLogger logger = context.getBean(LogBullLogger.class);
+                                        assertThat(context).hasSingleBean(LogBullLogbackAppender.class);
+
+                                        TestPropertyValues.of(
+                                                        "logbull.sender.queue-capacity=5000",
+                                                        "logbull.log-level=DEBUG")
+                                                        .applyTo((ConfigurableEnvironment) context.getEnvironment());
+
+                                        assertThatIllegalArgumentException().isThrownBy(
+                                                        () -> context.getBean(LogBullReconfigurer.class).reconfigure());
+                                        assertThat(logger.isDebugEnabled()).isFalse();
+                                        assertThat(context.getBean(LogBullLogbackAppender.class).isStarted()).isTrue();
+                                });
+        }
+
+        @Test
+        void turboFilterIsNotInstalledByDefault() {
+                contextRunner
+                                .withPropertyValues(
+                                                "logbull.project-id=12345678-1234-1234-1234-123456789012",
+                                                "logbull.host=http://localhost:4005")
+                                .run(context -> {
+                                        assertThat(logbackContext().getTurboFilterList())
+                                                        .noneMatch(filter -> filter instanceof LogBullTurboFilter);
+                                });
+        }
+
+        @Test
+        void turboFilterIsNotInstalledNextToOtherAppenders() {
+                // The default Logback configuration has a console appender
+                contextRunner
+                                .withPropertyValues(
+                                                "logbull.project-id=12345678-1234-1234-1234-123456789012",
+                                                "logbull.host=http://localhost:4005",
+                                                "logbull.turbo-filter=true",
+                                                "logbull.sample-rate=0.5")
+                                .run(context -> {
+                                        assertThat(context).hasNotFailed();
+                                        assertThat(logbackContext().getTurboFilterList())
+                                                        .noneMatch(filter -> filter instanceof LogBullTurboFilter);
+                                });
+        }
+
+        @Test
+        void applicationFailsToStartWhenSampleRateIsOutOfRange() {
+                contextRunner
+                                .withPropertyValues(
+                                                "logbull.project-id=12345678-1234-1234-1234-123456789012",
+                                                "logbull.host=http://localhost:4005",
+                                                "logbull.sample-rate=1.5")
+                                .run(context -> {
+                                        assertThat(context).hasFailed();
+                                });
+        }
+
         @Test
         void standaloneLoggerIsCreatedWhenConfigured() {
                 contextRunner
@@ -178,4 +398,8 @@ class LogBullAutoConfigurationTest {
                                         assertThat(context).doesNotHaveBean(Config.class);
                                 });
         }
+
+        private LoggerContext logbackContext() {
+                return (LoggerContext) LoggerFactory.getILoggerFactory();
+        }
 }
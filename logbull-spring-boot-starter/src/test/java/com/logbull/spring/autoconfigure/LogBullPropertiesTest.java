@@ -3,6 +3,8 @@ package com.logbull.spring.autoconfigure;
 import com.logbull.core.LogLevel;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class LogBullPropertiesTest {
@@ -16,6 +18,18 @@ class LogBullPropertiesTest {
         assertThat(properties.getProjectId()).isNull();
         assertThat(properties.getHost()).isNull();
         assertThat(properties.getApiKey()).isNull();
+        assertThat(properties.isConsoleOutput()).isTrue();
+        assertThat(properties.isTurboFilter()).isFalse();
+        assertThat(properties.getSampleRate()).isEqualTo(1.0);
+        assertThat(properties.getSender().getBatchSize()).isEqualTo(1_000);
+        assertThat(properties.getSender().getBatchInterval()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(properties.getSender().getQueueCapacity()).isEqualTo(10_000);
+        assertThat(properties.getSender().getMinWorkers()).isEqualTo(1);
+        assertThat(properties.getSender().getMaxWorkers()).isEqualTo(10);
+        assertThat(properties.getSender().getHttpTimeout()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(properties.getSender().getShutdownTimeout()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(properties.getSender().getMaxRetries()).isEqualTo(3);
+        assertThat(properties.getSender().getRetryBackoff()).isEqualTo(Duration.ofMillis(500));
     }
 
     @Test
@@ -27,11 +41,17 @@ class LogBullPropertiesTest {
         properties.setHost("http://localhost:4005");
         properties.setApiKey("test-key");
         properties.setLogLevel(LogLevel.DEBUG);
+        properties.setConsoleOutput(false);
+        properties.setTurboFilter(true);
+        properties.setSampleRate(0.25);
 
         assertThat(properties.isEnabled()).isFalse();
         assertThat(properties.getProjectId()).isEqualTo("12345678-1234-1234-1234-123456789012");
         assertThat(properties.getHost()).isEqualTo("http://localhost:4005");
         assertThat(properties.getApiKey()).isEqualTo("test-key");
         assertThat(properties.getLogLevel()).isEqualTo(LogLevel.DEBUG);
+        assertThat(properties.isConsoleOutput()).isFalse();
+        assertThat(properties.isTurboFilter()).isTrue();
+        assertThat(properties.getSampleRate()).isEqualTo(0.25);
     }
 }
@@ -0,0 +1,100 @@
+package com.logbull;
+
+import com.logbull.core.LogLevel;
+import com.logbull.internal.serialization.FieldBuffer;
+import com.logbull.internal.status.StatusCategory;
+
+import java.util.function.Supplier;
+
+/**
+ * Event builder backed by a thread-confined {@link FieldBuffer}. One instance
+ * per thread is reused for consecutive events.
+ */
+final class BufferedLogEventBuilder implements LogEventBuilder {
+    private final FieldBuffer fields = new FieldBuffer();
+
+    private LogBullLogger logger;
+    private LogLevel level;
+    private Throwable throwable;
+    private boolean inUse;
+
+    boolean isInUse() {
+        return inUse;
+    }
+
+    BufferedLogEventBuilder begin(LogBullLogger logger, LogLevel level) {
+        this.logger = logger;
+        this.level = level;
+        this.inUse = true;
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder field(String key, String value) {
+        fields.add(key, (Object) value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder field(String key, long value) {
+        fields.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder field(String key, double value) {
+        fields.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder field(String key, boolean value) {
+        fields.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder field(String key, Object value) {
+        fields.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder exception(Throwable throwable) {
+        this.throwable = throwable;
+        return this;
+    }
+
+    @Override
+    public void log(String message) {
+        try {
+            logger.logEvent(level, message, fields, throwable);
+        } finally {
+            end();
+        }
+    }
+
+    @Override
+    public void log(Supplier<String> messageSupplier) {
+        try {
+            String message;
+            try {
+                message = messageSupplier.get();
+            } catch (Exception e) {
+                logger.statusReporter().report(StatusCategory.SUPPLIER_FAILED, "log supplier failed", e);
+                return;
+            }
+            logger.logEvent(level, message, fields, throwable);
+        } finally {
+            end();
+        }
+    }
+
+    private void end() {
+        fields.clear();
+        logger = null;
+        level = null;
+        throwable = null;
+        inUse = false;
+    }
+}
@@ -7,16 +7,64 @@ import java.util.Objects;
  * Configuration for LogBull client.
  */
 public class Config {
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+    public static final long DEFAULT_BATCH_INTERVAL_MILLIS = 1_000;
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    public static final int DEFAULT_MIN_WORKERS = 1;
+    public static final int DEFAULT_MAX_WORKERS = 10;
+    public static final int DEFAULT_HTTP_TIMEOUT_MILLIS = 30_000;
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final long DEFAULT_RETRY_BACKOFF_MILLIS = 500;
+
     private final String projectId;
     private final String host;
     private final String apiKey;
     private final LogLevel logLevel;
+    private final boolean consoleOutput;
+    private final int batchSize;
+    private final long batchIntervalMillis;
+    private final int queueCapacity;
+    private final int minWorkers;
+    private final int maxWorkers;
+    private final int httpTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
 
     private Config(Builder builder) {
         this.projectId = Objects.requireNonNull(builder.projectId, "projectId cannot be null");
         this.host = Objects.requireNonNull(builder.host, "host cannot be null");
         this.apiKey = builder.apiKey;
         this.logLevel = builder.logLevel != null ? builder.logLevel : LogLevel.INFO;
+        this.consoleOutput = builder.consoleOutput;
+        this.batchSize = requirePositive(builder.batchSize, "batchSize");
+        this.batchIntervalMillis = requirePositive(builder.batchIntervalMillis, "batchIntervalMillis");
+        this.queueCapacity = requirePositive(builder.queueCapacity, "queueCapacity");
+        this.minWorkers = requirePositive(builder.minWorkers, "minWorkers");
+        this.maxWorkers = requirePositive(builder.maxWorkers, "maxWorkers");
+        this.httpTimeoutMillis = requirePositive(builder.httpTimeoutMillis, "httpTimeoutMillis");
+        this.shutdownTimeoutMillis = requirePositive(builder.shutdownTimeoutMillis, "shutdownTimeoutMillis");
+        if (builder.maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries cannot be negative, got " + builder.maxRetries);
+        }
+        this.maxRetries = builder.maxRetries;
+        this.retryBackoffMillis = requirePositive(builder.retryBackoffMillis, "retryBackoffMillis");
+        if (minWorkers > maxWorkers) {
+            throw new IllegalArgumentException(
+                    "minWorkers (" + minWorkers + ") cannot be greater than maxWorkers (" + maxWorkers + ")");
+        }
+    }
+
+    private static int requirePositive(int value, String name) {
+        return (int) requirePositive((long) value, name);
+    }
+
+    private static long requirePositive(long value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive, got " + value);
+        }
+        return value;
     }
 
     public String getProjectId() {
@@ -35,15 +83,87 @@ public class Config {
         return logLevel;
     }
 
+    public boolean isConsoleOutput() {
+        return consoleOutput;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getBatchIntervalMillis() {
+        return batchIntervalMillis;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getMinWorkers() {
+        return minWorkers;
+    }
+
+    public int getMaxWorkers() {
+        return maxWorkers;
+    }
+
+    public int getHttpTimeoutMillis() {
+        return httpTimeoutMillis;
+    }
+
+    public long getShutdownTimeoutMillis() {
+        return shutdownTimeoutMillis;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public long getRetryBackoffMillis() {
+        return retryBackoffMillis;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
 
+    /**
+     * Returns a builder initialized with the settings of this configuration,
+     * for deriving a changed configuration.
+     */
+    public Builder toBuilder() {
+        return new Builder()
+                .projectId(projectId)
+                .host(host)
+                .apiKey(apiKey)
+                .logLevel(logLevel)
+                .consoleOutput(consoleOutput)
+                .batchSize(batchSize)
+                .batchIntervalMillis(batchIntervalMillis)
+                .queueCapacity(queueCapacity)
+                .minWorkers(minWorkers)
+                .maxWorkers(maxWorkers)
+                .httpTimeoutMillis(httpTimeoutMillis)
+                .shutdownTimeoutMillis(shutdownTimeoutMillis)
+                .maxRetries(maxRetries)
+                .retryBackoffMillis(retryBackoffMillis);
+    }
+
     public static class Builder {
         private String projectId;
         private String host;
         private String apiKey;
         private LogLevel logLevel;
+        private boolean consoleOutput = true;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private long batchIntervalMillis = DEFAULT_BATCH_INTERVAL_MILLIS;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private int minWorkers = DEFAULT_MIN_WORKERS;
+        private int maxWorkers = DEFAULT_MAX_WORKERS;
+        private int httpTimeoutMillis = DEFAULT_HTTP_TIMEOUT_MILLIS;
+        private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+        private int maxRetries = DEFAULT_MAX_RETRIES;
+        private long retryBackoffMillis = DEFAULT_RETRY_BACKOFF_MILLIS;
 
         private Builder() {
         }
@@ -68,6 +188,99 @@ public class Config {
             return this;
         }
 
+        /**
+         * Enables or disables echoing logs of the standalone logger to the
+         * console. Enabled by default.
+         */
+        public Builder consoleOutput(boolean consoleOutput) {
+            this.consoleOutput = consoleOutput;
+            return this;
+        }
+
+        /**
+         * Maximum number of logs sent in one request. Defaults to 1000.
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Interval between scheduled sends of queued logs. Defaults to 1000 ms.
+         */
+        public Builder batchIntervalMillis(long batchIntervalMillis) {
+            this.batchIntervalMillis = batchIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Maximum number of logs waiting to be sent, further logs are
+         * dropped. Defaults to 10000.
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Number of HTTP sender threads kept while idle. More are started, up
+         * to {@link #maxWorkers(int)}, while all of them are busy, and stop
+         * again after a minute without work. Defaults to 1.
+         */
+        public Builder minWorkers(int minWorkers) {
+            this.minWorkers = minWorkers;
+            return this;
+        }
+
+        /**
+         * Maximum number of HTTP sender threads, and so of concurrent
+         * requests. Defaults to 10.
+         */
+        public Builder maxWorkers(int maxWorkers) {
+            this.maxWorkers = maxWorkers;
+            return this;
+        }
+
+        /**
+         * Connect and read timeout of requests. Defaults to 30000 ms.
+         */
+        public Builder httpTimeoutMillis(int httpTimeoutMillis) {
+            this.httpTimeoutMillis = httpTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * Deadline for sending the logs still queued when the sender shuts
+         * down, logs left after it are dropped. Defaults to 10000 ms.
+         */
+        public Builder shutdownTimeoutMillis(long shutdownTimeoutMillis) {
+            this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * Number of times a batch is resent after a connection failure or a
+         * 408, 429 or 5xx response, 0 disables retries. Retries carry the
+         * same batch ID, so the server can discard duplicates. Defaults to 3.
+         */
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Wait before the first retry of a batch, doubled for every further
+         * retry. Defaults to 500 ms.
+         */
+        public Builder retryBackoffMillis(long retryBackoffMillis) {
+            this.retryBackoffMillis = retryBackoffMillis;
+            return this;
+        }
+
+        /**
+         * @throws NullPointerException if projectId or host is missing
+         * @throws IllegalArgumentException if a sender setting is out of range
+         */
         public Config build() {
             return new Config(this);
         }
@@ -83,12 +296,23 @@ public class Config {
         return Objects.equals(projectId, config.projectId) &&
                 Objects.equals(host, config.host) &&
                 Objects.equals(apiKey, config.apiKey) &&
-                logLevel == config.logLevel;
+                logLevel == config.logLevel &&
+                consoleOutput == config.consoleOutput &&
+                batchSize == config.batchSize &&
+                batchIntervalMillis == config.batchIntervalMillis &&
+                queueCapacity == config.queueCapacity &&
+                minWorkers == config.minWorkers &&
+                maxWorkers == config.maxWorkers &&
+                httpTimeoutMillis == config.httpTimeoutMillis &&
+                shutdownTimeoutMillis == config.shutdownTimeoutMillis &&
+                maxRetries == config.maxRetries &&
+                retryBackoffMillis == config.retryBackoffMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(projectId, host, apiKey, logLevel);
+        return Objects.hash(projectId, host, apiKey, logLevel, consoleOutput, batchSize, batchIntervalMillis,
+                queueCapacity, minWorkers, maxWorkers, httpTimeoutMillis, shutdownTimeoutMillis, maxRetries, retryBackoffMillis);
     }
 
     @Override
@@ -97,6 +321,16 @@ public class Config {
                 "projectId='" + projectId + '\'' +
                 ", host='" + host + '\'' +
                 ", logLevel=" + logLevel +
+                ", consoleOutput=" + consoleOutput +
+                ", batchSize=" + batchSize +
+                ", batchIntervalMillis=" + batchIntervalMillis +
+                ", queueCapacity=" + queueCapacity +
+                ", minWorkers=" + minWorkers +
+                ", maxWorkers=" + maxWorkers +
+                ", httpTimeoutMillis=" + httpTimeoutMillis +
+                ", shutdownTimeoutMillis=" + shutdownTimeoutMillis +
+                ", maxRetries=" + maxRetries +
+                ", retryBackoffMillis=" + retryBackoffMillis +
                 '}';
     }
 }
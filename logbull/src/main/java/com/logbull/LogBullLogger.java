@@ -2,38 +2,60 @@ package com.logbull;
 
 import com.logbull.core.LogEntry;
 import com.logbull.core.LogLevel;
+import com.logbull.internal.console.ConsoleWriter;
+import com.logbull.internal.formatting.FormattedMessage;
 import com.logbull.internal.formatting.Formatter;
 import com.logbull.internal.sender.LogSender;
+import com.logbull.internal.sender.LogSenderRegistry;
+import com.logbull.internal.sender.SenderMetrics;
+import com.logbull.internal.serialization.EncodedFields;
+import com.logbull.internal.status.StatusCategory;
+import com.logbull.internal.status.StatusReporter;
+import com.logbull.internal.serialization.FieldBuffer;
 import com.logbull.internal.timestamp.TimestampGenerator;
+import com.logbull.internal.validation.ValidationResult;
 import com.logbull.internal.validation.Validator;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Standalone logger that sends logs to LogBull server.
  */
 public class LogBullLogger {
-    private final Config config;
+    private static final ThreadLocal<BufferedLogEventBuilder> EVENT_BUILDER =
+            ThreadLocal.withInitial(BufferedLogEventBuilder::new);
+
+    // Shared with derived context loggers, so reconfiguring one affects all
+    private final SharedConfig shared;
+    private final LogSenderRegistry.Lease senderLease;
     private final LogSender sender;
-    private final LogLevel minLevel;
-    private final Map<String, Object> context;
+    private final EncodedFields context;
     private final Validator validator;
     private final Formatter formatter;
     private final TimestampGenerator timestampGenerator;
-
-    private LogBullLogger(Config config, LogSender sender, Map<String, Object> context) {
-        this.config = config;
-        this.sender = sender;
-        this.minLevel = config.getLogLevel();
-        this.context = context != null ? new HashMap<>(context) : new HashMap<>();
-        this.validator = new Validator();
+    private final ConsoleWriter consoleWriter;
+    // Only the logger that created the console writer stops it
+    private final boolean ownsConsoleWriter;
+    private final Consumer<ValidationResult> invalidReporter = this::reportInvalid;
+
+    private LogBullLogger(SharedConfig shared, LogSenderRegistry.Lease senderLease,
+            EncodedFields context, Validator validator, ConsoleWriter consoleWriter, boolean ownsConsoleWriter) {
+        this.shared = shared;
+        this.senderLease = senderLease;
+        this.sender = senderLease.getSender();
+        this.consoleWriter = consoleWriter;
+        this.ownsConsoleWriter = ownsConsoleWriter;
+        this.context = context != null ? context : EncodedFields.EMPTY;
+        this.validator = validator;
         this.formatter = new Formatter();
         this.timestampGenerator = new TimestampGenerator();
     }
 
     /**
-     * Creates a new LogBullLogger with the given configuration.
+     * Creates a new LogBullLogger with the given configuration. Loggers
+     * created with an equal configuration share one sender.
      *
      * @param config LogBull configuration
      * @return new LogBullLogger instance
@@ -47,8 +69,9 @@ public class LogBullLogger {
         validator.validateHostUrl(config.getHost());
         validator.validateApiKey(config.getApiKey());
 
-        LogSender sender = new LogSender(config);
-        return new LogBullLogger(config, sender, null);
+        LogSenderRegistry.Lease senderLease = LogSenderRegistry.acquire(config);
+        ConsoleWriter consoleWriter = config.isConsoleOutput() ? new ConsoleWriter() : null;
+        return new LogBullLogger(new SharedConfig(config), senderLease, null, validator, consoleWriter, true);
     }
 
     /**
@@ -60,6 +83,36 @@ public class LogBullLogger {
         return new Builder();
     }
 
+    /**
+     * Checks whether messages of the given level would be logged.
+     *
+     * @param level log level to check
+     * @return true if the level is at or above the configured minimum level
+     */
+    public boolean isEnabled(LogLevel level) {
+        return level.getPriority() >= minPriority();
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    public boolean isInfoEnabled() {
+        return isEnabled(LogLevel.INFO);
+    }
+
+    public boolean isWarningEnabled() {
+        return isEnabled(LogLevel.WARNING);
+    }
+
+    public boolean isErrorEnabled() {
+        return isEnabled(LogLevel.ERROR);
+    }
+
+    public boolean isCriticalEnabled() {
+        return isEnabled(LogLevel.CRITICAL);
+    }
+
     /**
      * Logs a debug message.
      *
@@ -79,6 +132,39 @@ public class LogBullLogger {
         log(LogLevel.DEBUG, message, fields);
     }
 
+    /**
+     * Logs a debug message with fields and an exception. The stack trace is
+     * rendered on the sender thread.
+     *
+     * @param message   log message
+     * @param fields    additional fields, may be null
+     * @param throwable exception to attach
+     */
+    public void debug(String message, Map<String, Object> fields, Throwable throwable) {
+        log(LogLevel.DEBUG, message, fields, throwable);
+    }
+
+    /**
+     * Logs a debug message built lazily. The supplier is only invoked when
+     * DEBUG is enabled.
+     *
+     * @param messageSupplier supplier of the log message
+     */
+    public void debug(Supplier<String> messageSupplier) {
+        log(LogLevel.DEBUG, messageSupplier, null);
+    }
+
+    /**
+     * Logs a debug message with fields, both built lazily. The suppliers are
+     * only invoked when DEBUG is enabled.
+     *
+     * @param messageSupplier supplier of the log message
+     * @param fieldsSupplier  supplier of additional fields, may be null
+     */
+    public void debug(Supplier<String> messageSupplier, Supplier<Map<String, Object>> fieldsSupplier) {
+        log(LogLevel.DEBUG, messageSupplier, fieldsSupplier);
+    }
+
     /**
      * Logs an info message.
      *
@@ -98,6 +184,39 @@ public class LogBullLogger {
         log(LogLevel.INFO, message, fields);
     }
 
+    /**
+     * Logs an info message with fields and an exception. The stack trace is
+     * rendered on the sender thread.
+     *
+     * @param message   log message
+     * @param fields    additional fields, may be null
+     * @param throwable exception to attach
+     */
+    public void info(String message, Map<String, Object> fields, Throwable throwable) {
+        log(LogLevel.INFO, message, fields, throwable);
+    }
+
+    /**
+     * Logs an info message built lazily. The supplier is only invoked when
+     * INFO is enabled.
+     *
+     * @param messageSupplier supplier of the log message
+     */
+    public void info(Supplier<String> messageSupplier) {
+        log(LogLevel.INFO, messageSupplier, null);
+    }
+
+    /**
+     * Logs an info message with fields, both built lazily. The suppliers are
+     * only invoked when INFO is enabled.
+     *
+     * @param messageSupplier supplier of the log message
+     * @param fieldsSupplier  supplier of additional fields, may be null
+     */
+    public void info(Supplier<String> messageSupplier, Supplier<Map<String, Object>> fieldsSupplier) {
+        log(LogLevel.INFO, messageSupplier, fieldsSupplier);
+    }
+
     /**
      * Logs a warning message.
      *
@@ -117,6 +236,39 @@ public class LogBullLogger {
         log(LogLevel.WARNING, message, fields);
     }
 
+    /**
+     * Logs a warning message with fields and an exception. The stack trace is
+     * rendered on the sender thread.
+     *
+     * @param message   log message
+     * @param fields    additional fields, may be null
+     * @param throwable exception to attach
+     */
+    public void warning(String message, Map<String, Object> fields, Throwable throwable) {
+        log(LogLevel.WARNING, message, fields, throwable);
+    }
+
+    /**
+     * Logs a warning message built lazily. The supplier is only invoked when
+     * WARNING is enabled.
+     *
+     * @param messageSupplier supplier of the log message
+     */
+    public void warning(Supplier<String> messageSupplier) {
+        log(LogLevel.WARNING, messageSupplier, null);
+    }
+
+    /**
+     * Logs a warning message with fields, both built lazily. The suppliers are
+     * only invoked when WARNING is enabled.
+     *
+     * @param messageSupplier supplier of the log message
+     * @param fieldsSupplier  supplier of additional fields, may be null
+     */
+    public void warning(Supplier<String> messageSupplier, Supplier<Map<String, Object>> fieldsSupplier) {
+        log(LogLevel.WARNING, messageSupplier, fieldsSupplier);
+    }
+
     /**
      * Logs an error message.
      *
@@ -136,6 +288,39 @@ public class LogBullLogger {
         log(LogLevel.ERROR, message, fields);
     }
 
+    /**
+     * Logs an error message with fields and an exception. The stack trace is
+     * rendered on the sender thread.
+     *
+     * @param message   log message
+     * @param fields    additional fields, may be null
+     * @param throwable exception to attach
+     */
+    public void error(String message, Map<String, Object> fields, Throwable throwable) {
+        log(LogLevel.ERROR, message, fields, throwable);
+    }
+
+    /**
+     * Logs an error message built lazily. The supplier is only invoked when
+     * ERROR is enabled.
+     *
+     * @param messageSupplier supplier of the log message
+     */
+    public void error(Supplier<String> messageSupplier) {
+        log(LogLevel.ERROR, messageSupplier, null);
+    }
+
+    /**
+     * Logs an error message with fields, both built lazily. The suppliers are
+     * only invoked when ERROR is enabled.
+     *
+     * @param messageSupplier supplier of the log message
+     * @param fieldsSupplier  supplier of additional fields, may be null
+     */
+    public void error(Supplier<String> messageSupplier, Supplier<Map<String, Object>> fieldsSupplier) {
+        log(LogLevel.ERROR, messageSupplier, fieldsSupplier);
+    }
+
     /**
      * Logs a critical message.
      *
@@ -155,49 +340,244 @@ public class LogBullLogger {
         log(LogLevel.CRITICAL, message, fields);
     }
 
+    /**
+     * Logs a critical message with fields and an exception. The stack trace is
+     * rendered on the sender thread.
+     *
+     * @param message   log message
+     * @param fields    additional fields, may be null
+     * @param throwable exception to attach
+     */
+    public void critical(String message, Map<String, Object> fields, Throwable throwable) {
+        log(LogLevel.CRITICAL, message, fields, throwable);
+    }
+
+    /**
+     * Logs a critical message built lazily. The supplier is only invoked when
+     * CRITICAL is enabled.
+     *
+     * @param messageSupplier supplier of the log message
+     */
+    public void critical(Supplier<String> messageSupplier) {
+        log(LogLevel.CRITICAL, messageSupplier, null);
+    }
+
+    /**
+     * Logs a critical message with fields, both built lazily. The suppliers are
+     * only invoked when CRITICAL is enabled.
+     *
+     * @param messageSupplier supplier of the log message
+     * @param fieldsSupplier  supplier of additional fields, may be null
+     */
+    public void critical(Supplier<String> messageSupplier, Supplier<Map<String, Object>> fieldsSupplier) {
+        log(LogLevel.CRITICAL, messageSupplier, fieldsSupplier);
+    }
+
+    /**
+     * Starts a structured event at the given level.
+     * <p>
+     * Returns a no-op builder when the level is disabled. Otherwise a
+     * builder reused by the calling thread is returned, so the event must be
+     * completed with {@code log} before starting the next one.
+     *
+     * @param level log level of the event
+     * @return event builder
+     */
+    public LogEventBuilder atLevel(LogLevel level) {
+        if (level.getPriority() < minPriority()) {
+            return NoOpLogEventBuilder.INSTANCE;
+        }
+
+        BufferedLogEventBuilder builder = EVENT_BUILDER.get();
+        if (builder.isInUse()) {
+            // Either an event nested inside another one on this thread, or a
+            // builder dropped without log(). The replacement becomes the
+            // thread's builder, so a dropped one costs a single allocation
+            builder = new BufferedLogEventBuilder();
+            EVENT_BUILDER.set(builder);
+        }
+        return builder.begin(this, level);
+    }
+
+    public LogEventBuilder atDebug() {
+        return atLevel(LogLevel.DEBUG);
+    }
+
+    public LogEventBuilder atInfo() {
+        return atLevel(LogLevel.INFO);
+    }
+
+    public LogEventBuilder atWarning() {
+        return atLevel(LogLevel.WARNING);
+    }
+
+    public LogEventBuilder atError() {
+        return atLevel(LogLevel.ERROR);
+    }
+
+    public LogEventBuilder atCritical() {
+        return atLevel(LogLevel.CRITICAL);
+    }
+
     /**
      * Creates a new logger instance with additional context fields.
      * The new logger shares the same sender instance.
+     * <p>
+     * The context is validated and encoded once here, so it adds almost no
+     * cost to subsequent log calls.
      *
      * @param context additional context fields
      * @return new logger instance with merged context
+     * @throws IllegalArgumentException if the context fields are invalid
      */
     public LogBullLogger withContext(Map<String, Object> context) {
-        Map<String, Object> mergedContext = formatter.mergeFields(this.context, context);
-        return new LogBullLogger(this.config, this.sender, mergedContext);
+        validator.validateLogFields(context);
+        Map<String, Object> mergedContext = formatter.mergeFields(this.context.getFields(), context);
+        return new LogBullLogger(this.shared, this.senderLease, EncodedFields.of(mergedContext), validator,
+                consoleWriter, false);
+    }
+
+    /**
+     * Returns how many log calls had invalid input, either dropped or
+     * sanitized. Counts are shared with loggers created by
+     * {@link #withContext(Map)}.
+     *
+     * @return number of invalid log calls
+     */
+    public long getInvalidLogCount() {
+        long total = 0;
+        for (ValidationResult result : ValidationResult.values()) {
+            total += validator.getInvalidCount(result);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the configuration the logger currently runs with.
+     */
+    public Config getConfig() {
+        return shared.config;
+    }
+
+    /**
+     * Switches the level and sender settings of this logger and of the
+     * loggers derived from it by {@link #withContext(Map)}, without pausing
+     * concurrent log calls. Queued logs are kept.
+     *
+     * @param newConfig configuration to switch to, usually derived with
+     *        {@link Config#toBuilder()}
+     * @throws IllegalStateException if the sender is shared with another
+     *         logger or appender created from an equal configuration
+     * @throws IllegalArgumentException if the project, host, API key, queue
+     *         capacity or console output differ, which need a new logger
+     */
+    public void reconfigure(Config newConfig) {
+        synchronized (shared) {
+            checkReconfigurable(newConfig);
+            senderLease.reconfigure(newConfig);
+            shared.config = newConfig;
+            shared.minPriority = newConfig.getLogLevel().getPriority();
+        }
+    }
+
+    /**
+     * Checks that {@link #reconfigure(Config)} would accept the given
+     * configuration, without changing anything.
+     *
+     * @param newConfig configuration to check
+     * @throws IllegalStateException if the sender is shared with another
+     *         logger or appender created from an equal configuration
+     * @throws IllegalArgumentException if the project, host, API key, queue
+     *         capacity or console output differ, which need a new logger
+     */
+    public void checkReconfigurable(Config newConfig) {
+        if (newConfig.isConsoleOutput() != shared.config.isConsoleOutput()) {
+            throw new IllegalArgumentException("consoleOutput cannot be changed at runtime");
+        }
+        senderLease.checkReconfigurable(newConfig);
+    }
+
+    private int minPriority() {
+        return shared.minPriority;
+    }
+
+    /**
+     * Returns the counters of the sender shared with derived context loggers.
+     */
+    public SenderMetrics getSenderMetrics() {
+        return sender.getMetrics();
+    }
+
+    /**
+     * Returns the status channel used to report problems of this logger.
+     */
+    StatusReporter statusReporter() {
+        return sender.getStatusReporter();
     }
 
     /**
      * Immediately sends all queued logs to LogBull server.
+     *
+     * @return true if every queued log was handed to a worker, false if logs
+     *         stay queued because every worker is busy, possibly backing off
+     *         before a retry
      */
-    public void flush() {
-        sender.flush();
+    public boolean flush() {
+        return sender.flush();
     }
 
     /**
-     * Stops the logger and sends all remaining logs.
+     * Stops the logger and sends all remaining logs, unless the sender is
+     * still shared with another logger created from an equal configuration.
+     * Console output is only stopped by the logger the context loggers were
+     * derived from.
      */
     public void shutdown() {
-        sender.shutdown();
+        senderLease.release();
+        if (consoleWriter != null && ownsConsoleWriter) {
+            consoleWriter.shutdown();
+        }
+    }
+
+    private void log(LogLevel level, Supplier<String> messageSupplier,
+            Supplier<Map<String, Object>> fieldsSupplier) {
+        if (level.getPriority() < minPriority()) {
+            return;
+        }
+
+        String message;
+        Map<String, Object> fields;
+        try {
+            message = messageSupplier.get();
+            fields = fieldsSupplier != null ? fieldsSupplier.get() : null;
+        } catch (Exception e) {
+            statusReporter().report(StatusCategory.SUPPLIER_FAILED, "log supplier failed", e);
+            return;
+        }
+
+        log(level, message, fields, null);
     }
 
     private void log(LogLevel level, String message, Map<String, Object> fields) {
+        log(level, message, fields, null);
+    }
+
+    private void log(LogLevel level, String message, Map<String, Object> fields, Throwable throwable) {
+        // Check log level
+        if (level.getPriority() < minPriority()) {
+            return;
+        }
+
         try {
-            // Check log level
-            if (level.getPriority() < minLevel.getPriority()) {
+            // Validate inputs, sanitizing where possible
+            if (!checkMessage(message)) {
                 return;
             }
+            Map<String, Object> validFields = validator.sanitizeLogFields(fields, invalidReporter);
 
-            // Validate inputs
-            validator.validateLogMessage(message);
-            validator.validateLogFields(fields);
-
-            // Merge context and fields
-            Map<String, Object> mergedFields = formatter.mergeFields(context, fields);
-
-            // Format message and fields
-            String formattedMessage = formatter.formatMessage(message);
-            Map<String, Object> ensuredFields = formatter.ensureFields(mergedFields);
+            // Format message and fields, context is already formatted
+            FormattedMessage formattedMessage = formatMessage(message);
+            Map<String, Object> ensuredFields = formatter.ensureFields(validFields);
 
             // Generate unique timestamp
             String timestamp = timestampGenerator.generateUniqueTimestamp();
@@ -207,42 +587,171 @@ public class LogBullLogger {
                     level.toString(),
                     formattedMessage,
                     timestamp,
-                    ensuredFields);
+                    ensuredFields,
+                    context,
+                    EncodedFields.EMPTY,
+                    throwable);
 
             // Print to console
-            printToConsole(entry);
+            if (consoleWriter != null) {
+                printToConsole(entry, null);
+            }
 
             // Add to send queue
             sender.addLog(entry);
 
         } catch (Exception e) {
-            System.err.println("LogBull: invalid log message: " + e.getMessage());
+            statusReporter().report(StatusCategory.INVALID_LOG, "invalid log message", e);
         }
     }
 
-    private void printToConsole(LogEntry entry) {
-        StringBuilder output = new StringBuilder();
+    void logEvent(LogLevel level, String message, FieldBuffer fields, Throwable throwable) {
+        try {
+            if (!checkMessage(message)) {
+                return;
+            }
+            sanitizeFields(fields);
+
+            FormattedMessage formattedMessage = formatMessage(message);
+
+            // Encode the buffered fields right away, the buffer is reused
+            EncodedFields entryContext = context;
+            EncodedFields encodedFields;
+            if (fields.overridesAny(context)) {
+                encodedFields = fields.encode(context.getFields());
+                entryContext = EncodedFields.EMPTY;
+            } else {
+                encodedFields = fields.encode(null);
+            }
+
+            String timestamp = timestampGenerator.generateUniqueTimestamp();
+
+            LogEntry entry = new LogEntry(
+                    level.toString(),
+                    formattedMessage,
+                    timestamp,
+                    null,
+                    entryContext,
+                    encodedFields,
+                    throwable);
+
+            if (consoleWriter != null) {
+                printToConsole(entry, fields);
+            }
+
+            sender.addLog(entry);
+
+        } catch (Exception e) {
+            statusReporter().report(StatusCategory.INVALID_LOG, "invalid log message", e);
+        }
+    }
+
+    private boolean checkMessage(String message) {
+        // Long messages are truncated by the formatter, only empty ones are dropped
+        if (validator.checkLogMessage(message) == ValidationResult.EMPTY_MESSAGE) {
+            reportInvalid(ValidationResult.EMPTY_MESSAGE);
+            return false;
+        }
+        return true;
+    }
+
+    private FormattedMessage formatMessage(String message) {
+        FormattedMessage formatted = formatter.format(message);
+        if (formatted.isTruncated()) {
+            reportInvalid(ValidationResult.MESSAGE_TOO_LONG);
+        }
+        return formatted;
+    }
+
+    private void sanitizeFields(FieldBuffer fields) {
+        for (int i = fields.size() - 1; i >= 0; i--) {
+            String key = fields.keyAt(i);
+            ValidationResult result = validator.checkFieldKey(key);
+            if (result == ValidationResult.VALID) {
+                continue;
+            }
+
+            reportInvalid(result);
+            String sanitized = validator.sanitizeFieldKey(key);
+            if (sanitized == null || fields.containsKey(sanitized)) {
+                fields.removeAt(i);
+            } else {
+                fields.setKeyAt(i, sanitized);
+            }
+        }
+
+        if (validator.checkFieldsCount(fields.size()) != ValidationResult.VALID) {
+            reportInvalid(ValidationResult.TOO_MANY_FIELDS);
+            fields.truncate(validator.getMaxFieldsCount());
+        }
+    }
+
+    private void reportInvalid(ValidationResult result) {
+        // Only the first problem of each kind is printed, the rest are counted
+        if (validator.recordInvalid(result)) {
+            statusReporter().report(StatusCategory.INVALID_LOG, "invalid log message: " + result.getDescription()
+                    + " (further occurrences are counted but not printed)");
+        }
+    }
+
+    private void printToConsole(LogEntry entry, FieldBuffer bufferedFields) {
+        StringBuilder output = new StringBuilder(128);
         output.append("[").append(entry.getTimestamp()).append("]");
         output.append(" [").append(entry.getLevel()).append("]");
         output.append(" ").append(entry.getMessage());
 
-        if (!entry.getFields().isEmpty()) {
+        // Fields are printed from their sources to avoid building a merged map
+        Map<String, Object> ownFields = entry.getOwnFields();
+        boolean hasBufferedFields = bufferedFields != null && !bufferedFields.isEmpty();
+        if (!context.isEmpty() || !ownFields.isEmpty() || hasBufferedFields) {
             output.append(" (");
             boolean first = true;
-            for (Map.Entry<String, Object> field : entry.getFields().entrySet()) {
+            for (Map.Entry<String, Object> field : context.getFields().entrySet()) {
+                String key = field.getKey();
+                if (ownFields.containsKey(key) || (hasBufferedFields && bufferedFields.containsKey(key))) {
+                    continue;
+                }
+                first = appendConsoleField(output, first, key, field.getValue());
+            }
+            for (Map.Entry<String, Object> field : ownFields.entrySet()) {
+                first = appendConsoleField(output, first, field.getKey(), field.getValue());
+            }
+            if (hasBufferedFields) {
                 if (!first) {
                     output.append(", ");
                 }
-                output.append(field.getKey()).append("=").append(field.getValue());
-                first = false;
+                bufferedFields.appendTo(output);
             }
             output.append(")");
         }
+        if (entry.getThrowable() != null) {
+            output.append(" exception=").append(entry.getThrowable());
+        }
+
+        boolean error = "ERROR".equals(entry.getLevel()) || "CRITICAL".equals(entry.getLevel());
+        consoleWriter.write(output.toString(), error);
+    }
 
-        if ("ERROR".equals(entry.getLevel()) || "CRITICAL".equals(entry.getLevel())) {
-            System.err.println(output);
-        } else {
-            System.out.println(output);
+    private boolean appendConsoleField(StringBuilder output, boolean first, String key, Object value) {
+        if (!first) {
+            output.append(", ");
+        }
+        output.append(key).append("=").append(value);
+        return false;
+    }
+
+    /**
+     * Configuration and level threshold shared by a logger and the context
+     * loggers derived from it. The threshold is kept as a plain int so the
+     * level check stays a single field read.
+     */
+    private static final class SharedConfig {
+        private volatile Config config;
+        private volatile int minPriority;
+
+        private SharedConfig(Config config) {
+            this.config = config;
+            this.minPriority = config.getLogLevel().getPriority();
         }
     }
 
@@ -254,6 +763,7 @@ public class LogBullLogger {
         private String host;
         private String apiKey;
         private LogLevel logLevel = LogLevel.INFO;
+        private boolean consoleOutput = true;
 
         private Builder() {
         }
@@ -278,12 +788,18 @@ public class LogBullLogger {
             return this;
         }
 
+        public Builder consoleOutput(boolean consoleOutput) {
+            this.consoleOutput = consoleOutput;
+            return this;
+        }
+
         public LogBullLogger build() {
             Config config = Config.builder()
                     .projectId(projectId)
                     .host(host)
                     .apiKey(apiKey)
                     .logLevel(logLevel)
+                    .consoleOutput(consoleOutput)
                     .build();
 
             return LogBullLogger.create(config);
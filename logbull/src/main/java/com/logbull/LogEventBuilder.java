@@ -0,0 +1,53 @@
+package com.logbull;
+
+import java.util.function.Supplier;
+
+/**
+ * Fluent builder for a single structured log event.
+ * <p>
+ * Obtained from {@link LogBullLogger#atInfo()} and friends. Primitive field
+ * values are stored without boxing. A builder must be completed with one of
+ * the {@code log} methods on the thread that created it and must not be used
+ * afterwards. When the level is disabled a shared no-op builder is returned.
+ *
+ * <pre>
+ * logger.atInfo()
+ *         .field("latency_ms", latencyMs)
+ *         .field("ok", true)
+ *         .log("Request handled");
+ * </pre>
+ */
+public interface LogEventBuilder {
+
+    LogEventBuilder field(String key, String value);
+
+    LogEventBuilder field(String key, long value);
+
+    LogEventBuilder field(String key, double value);
+
+    LogEventBuilder field(String key, boolean value);
+
+    LogEventBuilder field(String key, Object value);
+
+    /**
+     * Attaches an exception to the event.
+     *
+     * @param throwable exception to attach
+     * @return this builder
+     */
+    LogEventBuilder exception(Throwable throwable);
+
+    /**
+     * Logs the event with the given message.
+     *
+     * @param message log message
+     */
+    void log(String message);
+
+    /**
+     * Logs the event with a lazily built message.
+     *
+     * @param messageSupplier supplier of the log message
+     */
+    void log(Supplier<String> messageSupplier);
+}
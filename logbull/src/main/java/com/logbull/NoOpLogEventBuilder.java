@@ -0,0 +1,51 @@
+package com.logbull;
+
+import java.util.function.Supplier;
+
+/**
+ * Event builder returned for disabled levels. Ignores everything.
+ */
+final class NoOpLogEventBuilder implements LogEventBuilder {
+    static final NoOpLogEventBuilder INSTANCE = new NoOpLogEventBuilder();
+
+    private NoOpLogEventBuilder() {
+    }
+
+    @Override
+    public LogEventBuilder field(String key, String value) {
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder field(String key, long value) {
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder field(String key, double value) {
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder field(String key, boolean value) {
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder field(String key, Object value) {
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder exception(Throwable throwable) {
+        return this;
+    }
+
+    @Override
+    public void log(String message) {
+    }
+
+    @Override
+    public void log(Supplier<String> messageSupplier) {
+    }
+}
@@ -1,5 +1,10 @@
 package com.logbull.core;
 
+import com.logbull.internal.formatting.FormattedMessage;
+import com.logbull.internal.sender.PendingLog;
+import com.logbull.internal.serialization.EncodedFields;
+import com.logbull.internal.serialization.FieldSource;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -8,17 +13,62 @@ import java.util.Objects;
 /**
  * Represents a single log entry to be sent to LogBull.
  */
-public class LogEntry {
+public class LogEntry implements PendingLog {
     private final String level;
     private final String message;
+    private final FormattedMessage formattedMessage;
     private final String timestamp;
     private final Map<String, Object> fields;
+    private final EncodedFields context;
+    private final FieldSource encodedFields;
+    private final Throwable throwable;
 
     public LogEntry(String level, String message, String timestamp, Map<String, Object> fields) {
+        this(level, message, timestamp, fields, EncodedFields.EMPTY);
+    }
+
+    /**
+     * Creates a log entry that also carries pre-encoded context fields.
+     * Entry fields take precedence over context fields with the same key.
+     */
+    public LogEntry(String level, String message, String timestamp, Map<String, Object> fields,
+            EncodedFields context) {
+        this(level, message, null, timestamp, fields, context, EncodedFields.EMPTY, null);
+    }
+
+    /**
+     * Creates a log entry from an already formatted message, with
+     * pre-encoded context fields and entry fields that are encoded directly
+     * into the payload. Encoded entry fields must not repeat keys of the
+     * context or of the plain entry fields.
+     */
+    public LogEntry(String level, FormattedMessage message, String timestamp, Map<String, Object> fields,
+            EncodedFields context, FieldSource encodedFields) {
+        this(level, message, timestamp, fields, context, encodedFields, null);
+    }
+
+    /**
+     * Creates a log entry like
+     * {@link #LogEntry(String, FormattedMessage, String, Map, EncodedFields, FieldSource)}
+     * that also carries an exception. The stack trace is rendered when the
+     * entry is serialized.
+     */
+    public LogEntry(String level, FormattedMessage message, String timestamp, Map<String, Object> fields,
+            EncodedFields context, FieldSource encodedFields, Throwable throwable) {
+        this(level, Objects.requireNonNull(message, "message cannot be null").getText(), message,
+                timestamp, fields, context, encodedFields, throwable);
+    }
+
+    private LogEntry(String level, String message, FormattedMessage formattedMessage, String timestamp,
+            Map<String, Object> fields, EncodedFields context, FieldSource encodedFields, Throwable throwable) {
         this.level = Objects.requireNonNull(level, "level cannot be null");
         this.message = Objects.requireNonNull(message, "message cannot be null");
+        this.formattedMessage = formattedMessage;
         this.timestamp = Objects.requireNonNull(timestamp, "timestamp cannot be null");
         this.fields = fields != null ? new HashMap<>(fields) : new HashMap<>();
+        this.context = context != null ? context : EncodedFields.EMPTY;
+        this.encodedFields = encodedFields != null ? encodedFields : EncodedFields.EMPTY;
+        this.throwable = throwable;
     }
 
     public String getLevel() {
@@ -29,14 +79,60 @@ public class LogEntry {
         return message;
     }
 
+    /**
+     * Returns the formatted message with its precomputed encoding details, or
+     * null if the entry was created from a plain string.
+     */
+    public FormattedMessage getFormattedMessage() {
+        return formattedMessage;
+    }
+
     public String getTimestamp() {
         return timestamp;
     }
 
+    /**
+     * Returns all fields of this entry, including context fields.
+     */
     public Map<String, Object> getFields() {
+        if (context.isEmpty() && encodedFields.isEmpty()) {
+            return Collections.unmodifiableMap(fields);
+        }
+
+        Map<String, Object> merged = new HashMap<>(context.getFields());
+        merged.putAll(encodedFields.getFields());
+        merged.putAll(fields);
+        return Collections.unmodifiableMap(merged);
+    }
+
+    /**
+     * Returns the plain fields given for this entry only, excluding context
+     * and encoded fields.
+     */
+    public Map<String, Object> getOwnFields() {
         return Collections.unmodifiableMap(fields);
     }
 
+    public EncodedFields getContext() {
+        return context;
+    }
+
+    public FieldSource getEncodedFields() {
+        return encodedFields;
+    }
+
+    /**
+     * Returns the exception attached to this entry, or null.
+     */
+    public Throwable getThrowable() {
+        return throwable;
+    }
+
+    @Override
+    public LogEntry toLogEntry() {
+        return this;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -47,12 +143,12 @@ public class LogEntry {
         return Objects.equals(level, logEntry.level) &&
                 Objects.equals(message, logEntry.message) &&
                 Objects.equals(timestamp, logEntry.timestamp) &&
-                Objects.equals(fields, logEntry.fields);
+                Objects.equals(getFields(), logEntry.getFields());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(level, message, timestamp, fields);
+        return Objects.hash(level, message, timestamp, getFields());
     }
 
     @Override
@@ -61,7 +157,7 @@ public class LogEntry {
                 "level='" + level + '\'' +
                 ", message='" + message + '\'' +
                 ", timestamp='" + timestamp + '\'' +
-                ", fields=" + fields +
+                ", fields=" + getFields() +
                 '}';
     }
 }
@@ -0,0 +1,141 @@
+package com.logbull.internal.console;
+
+import java.io.PrintStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes pre-rendered console lines from a background thread.
+ * <p>
+ * Callers only enqueue into a bounded ring, so logging threads never contend
+ * on the {@code System.out} / {@code System.err} locks. The writer drains the
+ * ring and prints the lines in large chunks, in the order they were written
+ * across both streams. Lines are dropped, and counted, when the ring is full.
+ * <p>
+ * The writer thread is started by the first line and parks while the ring is
+ * empty, so an idle writer costs no wakeups.
+ */
+public class ConsoleWriter {
+    private static final int CAPACITY = 8_192;
+    private static final int MAX_CHUNK_CHARS = 64 * 1_024;
+
+    private final BlockingQueue<Line> lines = new ArrayBlockingQueue<>(CAPACITY);
+    private final LongAdder droppedLines = new LongAdder();
+    private final AtomicBoolean shutdown = new AtomicBoolean(false);
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final AtomicBoolean parked = new AtomicBoolean(false);
+    private volatile Thread writerThread;
+
+    /**
+     * Enqueues a line for printing.
+     *
+     * @param line  rendered line without line separator
+     * @param error true to print to standard error
+     */
+    public void write(String line, boolean error) {
+        if (shutdown.get()) {
+            return;
+        }
+
+        if (!lines.offer(new Line(line, error))) {
+            droppedLines.increment();
+            return;
+        }
+
+        if (!started.get() && started.compareAndSet(false, true)) {
+            Thread thread = new Thread(this::run, "LogBull-ConsoleWriter");
+            thread.setDaemon(true);
+            writerThread = thread;
+            thread.start();
+        } else if (parked.get() && parked.compareAndSet(true, false)) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    public long getDroppedLines() {
+        return droppedLines.sum();
+    }
+
+    /**
+     * Prints all pending lines and stops the writer thread.
+     */
+    public void shutdown() {
+        if (shutdown.getAndSet(true)) {
+            return;
+        }
+
+        Thread thread = writerThread;
+        if (thread == null) {
+            return;
+        }
+
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        StringBuilder chunk = new StringBuilder(1_024);
+        while (true) {
+            boolean stopping = shutdown.get();
+            Line line = lines.poll();
+            if (line != null) {
+                print(line, chunk);
+                continue;
+            }
+            if (stopping) {
+                return;
+            }
+
+            // Writers unpark the thread when they see the flag, the queue is
+            // checked again so that a line offered meanwhile is not missed
+            parked.set(true);
+            if (lines.isEmpty() && !shutdown.get()) {
+                LockSupport.park(this);
+            }
+            parked.set(false);
+        }
+    }
+
+    private void print(Line first, StringBuilder chunk) {
+        boolean error = first.error;
+        Line line = first;
+        while (line != null) {
+            if (line.error != error) {
+                // Flush before switching streams to keep the relative order
+                flush(chunk, error);
+                error = line.error;
+            }
+            chunk.append(line.text).append(System.lineSeparator());
+            if (chunk.length() >= MAX_CHUNK_CHARS) {
+                break;
+            }
+            line = lines.poll();
+        }
+        flush(chunk, error);
+    }
+
+    private static void flush(StringBuilder chunk, boolean error) {
+        PrintStream stream = error ? System.err : System.out;
+        stream.print(chunk);
+        stream.flush();
+        chunk.setLength(0);
+    }
+
+    private static final class Line {
+        private final String text;
+        private final boolean error;
+
+        private Line(String text, boolean error) {
+            this.text = text;
+            this.error = error;
+        }
+    }
+}
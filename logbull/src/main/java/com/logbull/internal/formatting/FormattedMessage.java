@@ -0,0 +1,60 @@
+package com.logbull.internal.formatting;
+
+/**
+ * Log message after trimming and truncation, together with what the single
+ * formatting pass learned about it, so the serializer does not need to scan
+ * the text again.
+ */
+public final class FormattedMessage {
+    public static final FormattedMessage EMPTY = new FormattedMessage("", 0, false, true, false);
+
+    private final String text;
+    private final int utf8Length;
+    private final boolean needsEscaping;
+    private final boolean ascii;
+    private final boolean truncated;
+
+    FormattedMessage(String text, int utf8Length, boolean needsEscaping, boolean ascii, boolean truncated) {
+        this.text = text;
+        this.utf8Length = utf8Length;
+        this.needsEscaping = needsEscaping;
+        this.ascii = ascii;
+        this.truncated = truncated;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the number of bytes of the UTF-8 encoded text.
+     */
+    public int getUtf8Length() {
+        return utf8Length;
+    }
+
+    /**
+     * Returns whether the text contains characters that must be escaped in a
+     * JSON string.
+     */
+    public boolean needsEscaping() {
+        return needsEscaping;
+    }
+
+    /**
+     * Returns whether the text only contains ASCII characters that need no
+     * escaping, so it can be written one byte per char.
+     */
+    public boolean isPlainAscii() {
+        return ascii && !needsEscaping;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
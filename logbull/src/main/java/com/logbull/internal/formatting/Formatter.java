@@ -10,19 +10,91 @@ import java.util.Map;
  * Formats log messages and fields for sending to LogBull.
  */
 public class Formatter {
-    private static final int MAX_MESSAGE_LENGTH = 10_000;
+    private static final int MAX_MESSAGE_BYTES = 10_000;
+    private static final String ELLIPSIS = "...";
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     public String formatMessage(String message) {
+        return format(message).getText();
+    }
+
+    /**
+     * Trims the message and truncates it to at most 10,000 UTF-8 bytes on a code
+     * point boundary, in a single pass that also
+     * records the encoded length, whether JSON escaping is needed and whether
+     * the text is plain ASCII.
+     *
+     * @param message raw message, may be null
+     * @return formatted message
+     */
+    public FormattedMessage format(String message) {
         if (message == null) {
-            return "";
+            return FormattedMessage.EMPTY;
+        }
+
+        // Same whitespace rules as String.trim()
+        int start = 0;
+        int end = message.length();
+        while (start < end && message.charAt(start) <= ' ') {
+            start++;
         }
+        while (end > start && message.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        int budget = MAX_MESSAGE_BYTES - ELLIPSIS.length();
+        int bytes = 0;
+        boolean needsEscaping = false;
+        boolean ascii = true;
+        int cutIndex = -1;
+        int cutBytes = 0;
+        boolean cutNeedsEscaping = false;
+        boolean cutAscii = true;
+
+        for (int i = start; i < end; i++) {
+            char c = message.charAt(i);
+            int charBytes;
+            int charCount = 1;
+            boolean escape = false;
+            if (c < 0x80) {
+                charBytes = 1;
+                escape = c < 0x20 || c == '"' || c == '\\';
+            } else if (c < 0x800) {
+                charBytes = 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < end
+                    && Character.isLowSurrogate(message.charAt(i + 1))) {
+                charBytes = 4;
+                charCount = 2;
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates are written as '?'
+                charBytes = 1;
+            } else {
+                charBytes = 3;
+            }
+
+            if (cutIndex < 0 && bytes + charBytes > budget) {
+                // Last point where the text still fits together with the ellipsis
+                cutIndex = i;
+                cutBytes = bytes;
+                cutNeedsEscaping = needsEscaping;
+                cutAscii = ascii;
+            }
 
-        String trimmed = message.trim();
-        if (trimmed.length() > MAX_MESSAGE_LENGTH) {
-            return trimmed.substring(0, MAX_MESSAGE_LENGTH - 3) + "...";
+            bytes += charBytes;
+            needsEscaping |= escape;
+            // Unpaired surrogates take one byte too, so the length alone
+            // cannot tell plain ASCII apart
+            ascii &= c < 0x80;
+            i += charCount - 1;
+
+            if (bytes > MAX_MESSAGE_BYTES) {
+                String text = message.substring(start, cutIndex) + ELLIPSIS;
+                return new FormattedMessage(text, cutBytes + ELLIPSIS.length(), cutNeedsEscaping, cutAscii, true);
+            }
         }
-        return trimmed;
+
+        String text = start == 0 && end == message.length() ? message : message.substring(start, end);
+        return new FormattedMessage(text, bytes, needsEscaping, ascii, false);
     }
 
     public Map<String, Object> ensureFields(Map<String, Object> fields) {
@@ -0,0 +1,153 @@
+package com.logbull.internal.formatting;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders throwables in the familiar {@code printStackTrace} layout.
+ * <p>
+ * Frames shared with the enclosing trace are elided as {@code ... n more},
+ * long traces are cut after {@value #MAX_FRAMES} frames and deep cause chains
+ * after {@value #MAX_DEPTH} levels. Rendered frame blocks are cached by stack
+ * fingerprint, so an exception thrown repeatedly from the same place is only
+ * rendered once; only the header lines with the messages are built per call.
+ * The cache is cleared when it is full, so stacks seen later still get cached.
+ */
+public class ThrowableRenderer {
+    public static final int MAX_FRAMES = 50;
+    public static final int MAX_DEPTH = 10;
+    static final int MAX_CACHED_BLOCKS = 512;
+
+    private static final Map<FrameKey, String> FRAME_BLOCKS = new ConcurrentHashMap<>();
+
+    public String render(Throwable throwable) {
+        StringBuilder output = new StringBuilder(1_024);
+        Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        appendThrowable(output, throwable, null, "", "", seen, 0);
+        // Drop the trailing line separator
+        output.setLength(output.length() - 1);
+        return output.toString();
+    }
+
+    private void appendThrowable(StringBuilder output, Throwable throwable, StackTraceElement[] enclosingFrames,
+            String caption, String prefix, Set<Throwable> seen, int depth) {
+        if (!seen.add(throwable)) {
+            output.append(prefix).append(caption).append("[CIRCULAR REFERENCE: ").append(throwable).append("]\n");
+            return;
+        }
+
+        if (depth > MAX_DEPTH) {
+            output.append(prefix).append(caption).append("... (cause chain truncated)\n");
+            return;
+        }
+
+        StackTraceElement[] frames = throwable.getStackTrace();
+        int last = frames.length - 1;
+        if (enclosingFrames != null) {
+            int enclosingLast = enclosingFrames.length - 1;
+            while (last >= 0 && enclosingLast >= 0 && frames[last].equals(enclosingFrames[enclosingLast])) {
+                last--;
+                enclosingLast--;
+            }
+        }
+        int framesInCommon = frames.length - 1 - last;
+
+        output.append(prefix).append(caption).append(throwable).append('\n');
+        output.append(frameBlock(frames, last + 1, framesInCommon, prefix));
+
+        for (Throwable suppressed : throwable.getSuppressed()) {
+            appendThrowable(output, suppressed, frames, "Suppressed: ", prefix + "\t", seen, depth + 1);
+        }
+
+        Throwable cause = throwable.getCause();
+        if (cause != null) {
+            appendThrowable(output, cause, frames, "Caused by: ", prefix, seen, depth + 1);
+        }
+    }
+
+    private String frameBlock(StackTraceElement[] frames, int count, int framesInCommon, String prefix) {
+        FrameKey key = new FrameKey(frames, count, framesInCommon, prefix);
+        String block = FRAME_BLOCKS.get(key);
+        if (block == null) {
+            block = renderFrames(frames, count, framesInCommon, prefix);
+            if (FRAME_BLOCKS.size() >= MAX_CACHED_BLOCKS) {
+                // Cheaper than tracking recency, and hot stacks are back after one miss
+                FRAME_BLOCKS.clear();
+            }
+            FRAME_BLOCKS.putIfAbsent(key, block);
+        }
+        return block;
+    }
+
+    static int cachedBlocks() {
+        return FRAME_BLOCKS.size();
+    }
+
+    static void clearCache() {
+        FRAME_BLOCKS.clear();
+    }
+
+    private String renderFrames(StackTraceElement[] frames, int count, int framesInCommon, String prefix) {
+        StringBuilder block = new StringBuilder(64 * Math.min(count, MAX_FRAMES) + 32);
+        int rendered = Math.min(count, MAX_FRAMES);
+        for (int i = 0; i < rendered; i++) {
+            block.append(prefix).append("\tat ").append(frames[i]).append('\n');
+        }
+        if (count > rendered) {
+            block.append(prefix).append("\t... ").append(count - rendered).append(" frames truncated\n");
+        }
+        if (framesInCommon != 0) {
+            block.append(prefix).append("\t... ").append(framesInCommon).append(" more\n");
+        }
+        return block.toString();
+    }
+
+    /**
+     * Stack fingerprint: the rendered frames plus everything else that
+     * affects the rendered block.
+     */
+    private static final class FrameKey {
+        private final StackTraceElement[] frames;
+        private final int count;
+        private final int framesInCommon;
+        private final String prefix;
+        private final int hash;
+
+        FrameKey(StackTraceElement[] frames, int count, int framesInCommon, String prefix) {
+            this.frames = frames;
+            this.count = count;
+            this.framesInCommon = framesInCommon;
+            this.prefix = prefix;
+
+            int h = 31 * count + framesInCommon;
+            h = 31 * h + prefix.hashCode();
+            for (int i = 0; i < count; i++) {
+                h = 31 * h + frames[i].hashCode();
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof FrameKey))
+                return false;
+            FrameKey other = (FrameKey) o;
+            return hash == other.hash
+                    && count == other.count
+                    && framesInCommon == other.framesInCommon
+                    && prefix.equals(other.prefix)
+                    && Arrays.equals(frames, 0, count, other.frames, 0, count);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.logbull.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Formatting of a drained batch into log entries.
+ */
+@Name("com.logbull.BatchAssembly")
+@Label("LogBull Batch Assembly")
+@Category("LogBull")
+@Description("Formatting of queued logs into a batch")
+public class BatchAssemblyEvent extends Event {
+
+    @Label("Queued Logs")
+    public int queuedLogs;
+
+    @Label("Formatted Logs")
+    public int formattedLogs;
+}
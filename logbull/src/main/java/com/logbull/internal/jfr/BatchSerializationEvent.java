@@ -0,0 +1,25 @@
+package com.logbull.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Serialization of a batch into the JSON request body.
+ */
+@Name("com.logbull.BatchSerialization")
+@Label("LogBull Batch Serialization")
+@Category("LogBull")
+@Description("Serialization of a batch into the request body")
+public class BatchSerializationEvent extends Event {
+
+    @Label("Entries")
+    public int entries;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
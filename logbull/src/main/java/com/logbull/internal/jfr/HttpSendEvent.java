@@ -0,0 +1,37 @@
+package com.logbull.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * HTTP request sending a batch to the LogBull server.
+ */
+@Name("com.logbull.HttpSend")
+@Label("LogBull HTTP Send")
+@Category("LogBull")
+@Description("HTTP request sending a batch, status is -1 if no response was received")
+public class HttpSendEvent extends Event {
+
+    @Label("Batch Sequence")
+    public long sequence;
+
+    @Label("Attempt")
+    public int attempt;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Success")
+    public boolean success;
+
+    @Label("Entries")
+    public int entries;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,20 @@
+package com.logbull.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Log dropped on the logging thread because the send queue was full.
+ */
+@Name("com.logbull.QueueFullDrop")
+@Label("LogBull Queue Full Drop")
+@Category("LogBull")
+@Description("Log dropped because the send queue was full")
+public class QueueFullDropEvent extends Event {
+
+    @Label("Queue Capacity")
+    public int queueCapacity;
+}
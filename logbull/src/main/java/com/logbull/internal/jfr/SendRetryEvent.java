@@ -0,0 +1,34 @@
+package com.logbull.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Failed batch request that is about to be resent.
+ */
+@Name("com.logbull.SendRetry")
+@Label("LogBull Send Retry")
+@Category("LogBull")
+@Description("Failed batch request that is resent after a backoff, status is -1 if no response was received")
+public class SendRetryEvent extends Event {
+
+    @Label("Batch ID")
+    public String batchId;
+
+    @Label("Batch Sequence")
+    public long sequence;
+
+    @Label("Failed Attempt")
+    public int attempt;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Backoff")
+    @Timespan(Timespan.MILLISECONDS)
+    public long backoffMillis;
+}
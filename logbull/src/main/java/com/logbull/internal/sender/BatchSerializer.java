@@ -0,0 +1,190 @@
+package com.logbull.internal.sender;
+
+import com.logbull.core.LogEntry;
+import com.logbull.internal.formatting.FormattedMessage;
+import com.logbull.internal.formatting.ThrowableRenderer;
+import com.logbull.internal.serialization.EncodedFields;
+import com.logbull.internal.serialization.FieldSource;
+import com.logbull.internal.serialization.JsonWriter;
+import com.logbull.internal.status.StatusCategory;
+import com.logbull.internal.status.StatusReporter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializes log batches into the JSON payload expected by LogBull.
+ * Pre-encoded context fields are copied into the payload as-is, and attached
+ * exceptions are rendered here, on the sender thread. When an exception is
+ * attached, its fields replace user fields with the same keys.
+ */
+public class BatchSerializer {
+    private static final int ESTIMATED_ENTRY_SIZE = 256;
+    private static final String EXCEPTION_CLASS = "exception_class";
+    private static final String EXCEPTION_MESSAGE = "exception_message";
+    private static final String STACK_TRACE = "stack_trace";
+
+    private final ThrowableRenderer throwableRenderer = new ThrowableRenderer();
+    private final StatusReporter statusReporter;
+
+    public BatchSerializer() {
+        this(new StatusReporter());
+    }
+
+    /**
+     * @param statusReporter channel for exceptions that cannot be rendered
+     */
+    public BatchSerializer(StatusReporter statusReporter) {
+        this.statusReporter = statusReporter;
+    }
+
+    public byte[] serialize(List<LogEntry> logs) {
+        JsonWriter writer = new JsonWriter(logs.size() * ESTIMATED_ENTRY_SIZE + 16);
+        writer.writeByte('{');
+        writer.writeName("logs");
+        writer.writeByte('[');
+        for (int i = 0; i < logs.size(); i++) {
+            if (i > 0) {
+                writer.writeByte(',');
+            }
+            writeEntry(writer, logs.get(i));
+        }
+        writer.writeByte(']');
+        writer.writeByte('}');
+        return writer.toByteArray();
+    }
+
+    private void writeEntry(JsonWriter writer, LogEntry entry) {
+        writer.writeByte('{');
+        writer.writeName("level");
+        writer.writeString(entry.getLevel());
+        writer.writeByte(',');
+        writer.writeName("message");
+        FormattedMessage message = entry.getFormattedMessage();
+        if (message != null) {
+            writer.writeString(message.getText(), message.getUtf8Length(), message.isPlainAscii());
+        } else {
+            writer.writeString(entry.getMessage());
+        }
+        writer.writeByte(',');
+        writer.writeName("timestamp");
+        writer.writeString(entry.getTimestamp());
+        writer.writeByte(',');
+        writer.writeName("fields");
+        writeFields(writer, entry.getContext(), entry.getEncodedFields(), entry.getOwnFields(),
+                entry.getThrowable());
+        writer.writeByte('}');
+    }
+
+    private void writeFields(JsonWriter writer, EncodedFields context, FieldSource encoded,
+            Map<String, Object> fields, Throwable throwable) {
+        writer.writeByte('{');
+        boolean first = true;
+        // The exception fields take precedence over user fields with the same keys
+        boolean reserveExceptionKeys = throwable != null;
+
+        if (!context.isEmpty()) {
+            if (!overridesContext(context, fields)
+                    && !(reserveExceptionKeys && containsExceptionKey(context))) {
+                context.writeTo(writer);
+                first = false;
+            } else {
+                // Entry fields replace some context keys, so the encoded
+                // context cannot be copied verbatim
+                for (Map.Entry<String, Object> field : context.getFields().entrySet()) {
+                    String key = field.getKey();
+                    if (fields.containsKey(key) || (reserveExceptionKeys && isExceptionKey(key))) {
+                        continue;
+                    }
+                    first = writeField(writer, first, key, field.getValue());
+                }
+            }
+        }
+
+        if (!encoded.isEmpty()) {
+            if (reserveExceptionKeys && containsExceptionKey(encoded)) {
+                for (Map.Entry<String, Object> field : encoded.getFields().entrySet()) {
+                    if (!isExceptionKey(field.getKey())) {
+                        first = writeField(writer, first, field.getKey(), field.getValue());
+                    }
+                }
+            } else {
+                if (!first) {
+                    writer.writeByte(',');
+                }
+                encoded.writeTo(writer);
+                first = false;
+            }
+        }
+
+        for (Map.Entry<String, Object> field : fields.entrySet()) {
+            if (reserveExceptionKeys && isExceptionKey(field.getKey())) {
+                continue;
+            }
+            first = writeField(writer, first, field.getKey(), field.getValue());
+        }
+
+        if (throwable != null) {
+            writeThrowable(writer, first, throwable);
+        }
+        writer.writeByte('}');
+    }
+
+    private void writeThrowable(JsonWriter writer, boolean first, Throwable throwable) {
+        String className = throwable.getClass().getName();
+        String message;
+        String stackTrace;
+        try {
+            message = throwable.getMessage();
+            stackTrace = throwableRenderer.render(throwable);
+        } catch (RuntimeException e) {
+            // A broken getMessage() or toString() must not cost the whole batch
+            statusReporter.report(StatusCategory.FORMAT_FAILED,
+                    "failed to render " + className + ", sending its class name only", e);
+            message = null;
+            stackTrace = className;
+        }
+
+        if (!first) {
+            writer.writeByte(',');
+        }
+        writer.writeName(EXCEPTION_CLASS);
+        writer.writeString(className);
+        if (message != null) {
+            writer.writeByte(',');
+            writer.writeName(EXCEPTION_MESSAGE);
+            writer.writeString(message);
+        }
+        writer.writeByte(',');
+        writer.writeName(STACK_TRACE);
+        writer.writeString(stackTrace);
+    }
+
+    private boolean writeField(JsonWriter writer, boolean first, String key, Object value) {
+        if (!first) {
+            writer.writeByte(',');
+        }
+        writer.writeName(key);
+        writer.writeValue(value);
+        return false;
+    }
+
+    private static boolean containsExceptionKey(FieldSource source) {
+        return source.containsKey(EXCEPTION_CLASS)
+                || source.containsKey(EXCEPTION_MESSAGE)
+                || source.containsKey(STACK_TRACE);
+    }
+
+    private static boolean isExceptionKey(String key) {
+        return EXCEPTION_CLASS.equals(key) || EXCEPTION_MESSAGE.equals(key) || STACK_TRACE.equals(key);
+    }
+
+    private boolean overridesContext(EncodedFields context, Map<String, Object> fields) {
+        for (String key : fields.keySet()) {
+            if (context.containsKey(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
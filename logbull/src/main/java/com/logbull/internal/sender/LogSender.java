@@ -2,214 +2,616 @@ package com.logbull.internal.sender;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.logbull.Config;
-import com.logbull.core.LogBatch;
 import com.logbull.core.LogBullResponse;
 import com.logbull.core.LogEntry;
+import com.logbull.internal.jfr.BatchAssemblyEvent;
+import com.logbull.internal.jfr.BatchSerializationEvent;
+import com.logbull.internal.jfr.HttpSendEvent;
+import com.logbull.internal.jfr.QueueFullDropEvent;
+import com.logbull.internal.jfr.SendRetryEvent;
+import com.logbull.internal.status.StatusCategory;
+import com.logbull.internal.status.StatusReporter;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 /**
  * Handles asynchronous sending of log batches to LogBull server.
  */
 public class LogSender {
-    private static final int BATCH_SIZE = 1_000;
-    private static final int BATCH_INTERVAL_MS = 1_000;
-    private static final int QUEUE_CAPACITY = 10_000;
-    private static final int MIN_WORKERS = 1;
-    private static final int MAX_WORKERS = 10;
-    private static final int HTTP_TIMEOUT_MS = 30_000;
-
-    private final Config config;
+    /**
+     * Request header carrying a random ID of the batch, the same on every
+     * retry of the batch.
+     */
+    public static final String BATCH_ID_HEADER = "X-LogBull-Batch-Id";
+
+    /**
+     * Request header carrying the position of the batch among the batches of
+     * this sender, starting at 1 and the same on every retry of the batch.
+     * Numbers are assigned when the batch is taken from the queue; batches
+     * whose logs all failed to format are not sent, leaving a gap.
+     */
+    public static final String BATCH_SEQUENCE_HEADER = "X-LogBull-Batch-Sequence";
+
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 30_000;
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 60;
+    private static final AtomicInteger SENDER_IDS = new AtomicInteger();
+
+    private volatile Config config;
     private final ObjectMapper objectMapper;
-    private final BlockingQueue<LogEntry> logQueue;
-    private final ExecutorService batchProcessor;
-    private final ExecutorService httpExecutor;
-    private final Semaphore workerSemaphore;
+    private final BatchSerializer serializer;
+    private final BlockingQueue<PendingLog> logQueue;
+    private final ThreadPoolExecutor httpExecutor;
     private final ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> batchTask;
+    private final AtomicBoolean started;
     private final AtomicBoolean shutdown;
+    private final StatusReporter statusReporter;
+    private final SenderMetrics metrics;
+    private final ObjectName mbeanName;
+    private final AtomicLong batchSequence = new AtomicLong();
+    // Workers reserved by batches handed to the executor and not finished yet
+    private final AtomicInteger busyWorkers = new AtomicInteger();
 
     public LogSender(Config config) {
         this.config = config;
         this.objectMapper = new ObjectMapper();
-        this.logQueue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
-        this.batchProcessor = Executors.newSingleThreadExecutor(
-                r -> new Thread(r, "LogBull-BatchProcessor"));
-        this.httpExecutor = Executors.newFixedThreadPool(
-                MAX_WORKERS,
-                r -> new Thread(r, "LogBull-HttpSender"));
-        this.workerSemaphore = new Semaphore(MIN_WORKERS);
+        // Array-backed so queueing a log does not allocate a queue node
+        this.logQueue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        // minWorkers threads are kept while idle, more are started up to
+        // maxWorkers while all of them are busy
+        WorkerQueue workerQueue = new WorkerQueue();
+        this.httpExecutor = new ThreadPoolExecutor(
+                config.getMinWorkers(), config.getMaxWorkers(), WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                workerQueue,
+                r -> new Thread(r, "LogBull-HttpSender"),
+                WorkerQueue::forceOffer);
+        workerQueue.executor = httpExecutor;
         this.scheduler = Executors.newSingleThreadScheduledExecutor(
                 r -> new Thread(r, "LogBull-Scheduler"));
+        this.started = new AtomicBoolean(false);
         this.shutdown = new AtomicBoolean(false);
-
-        startBatchProcessor();
+        this.statusReporter = new StatusReporter();
+        this.serializer = new BatchSerializer(statusReporter);
+        this.metrics = new SenderMetrics(logQueue, config.getQueueCapacity(), statusReporter);
+        this.mbeanName = registerMBean();
+        // Threads are started by the first queued log, so an unused sender
+        // costs no threads
     }
 
-    public void addLog(LogEntry entry) {
+    /**
+     * Queues a log for sending. Formatting of deferred logs happens later on
+     * a sender thread.
+     *
+     * @param log log entry or deferred log
+     * @return true if the log was queued, false if it was dropped
+     */
+    public boolean addLog(PendingLog log) {
         if (shutdown.get()) {
-            return;
+            metrics.recordDroppedAfterShutdown();
+            return false;
         }
 
-        boolean added = logQueue.offer(entry);
-        if (!added) {
-            System.err.println("LogBull: log queue full, dropping log");
+        boolean added = logQueue.offer(log);
+        if (added) {
+            metrics.recordEnqueued();
+            if (!started.get()) {
+                startBatchProcessor();
+            }
+        } else {
+            metrics.recordDroppedQueueFull();
+            QueueFullDropEvent event = new QueueFullDropEvent();
+            if (event.shouldCommit()) {
+                event.queueCapacity = config.getQueueCapacity();
+                event.commit();
+            }
+            statusReporter.report(StatusCategory.QUEUE_FULL, "log queue full, dropping log");
         }
+        return added;
+    }
+
+    /**
+     * Returns the status channel used to report problems of this sender and
+     * of the loggers using it.
+     */
+    public StatusReporter getStatusReporter() {
+        return statusReporter;
+    }
+
+    /**
+     * Returns the counters of this sender, also exposed over JMX.
+     */
+    public SenderMetrics getMetrics() {
+        return metrics;
     }
 
-    public void flush() {
-        sendBatch();
+    /**
+     * Returns the configuration the sender currently runs with.
+     */
+    public Config getConfig() {
+        return config;
     }
 
+    /**
+     * Hands queued logs to the workers right away, one batch per free
+     * worker, until the queue is empty.
+     *
+     * @return true if the queue was emptied, false if logs stay queued
+     *         because every worker is busy, possibly backing off before a
+     *         retry, or because the sender is shut down
+     */
+    public boolean flush() {
+        while (sendBatch()) {
+            // Keep going while workers are free
+        }
+        return logQueue.isEmpty();
+    }
+
+    /**
+     * Checks that {@link #reconfigure(Config)} would accept the given
+     * configuration, without changing anything.
+     *
+     * @param newConfig configuration to check
+     * @throws IllegalArgumentException if the project, host, API key or
+     *         queue capacity differ, which need a new sender
+     */
+    public void checkReconfigurable(Config newConfig) {
+        Config current = config;
+        if (!Objects.equals(current.getProjectId(), newConfig.getProjectId())
+                || !Objects.equals(current.getHost(), newConfig.getHost())
+                || !Objects.equals(current.getApiKey(), newConfig.getApiKey())) {
+            throw new IllegalArgumentException("projectId, host and apiKey cannot be changed at runtime");
+        }
+        if (current.getQueueCapacity() != newConfig.getQueueCapacity()) {
+            throw new IllegalArgumentException("queueCapacity cannot be changed at runtime");
+        }
+    }
+
+    /**
+     * Applies the batching, worker and timeout settings of the given
+     * configuration to the running sender. Producers are not paused, and
+     * logs already queued are sent with the new settings.
+     *
+     * @param newConfig configuration to switch to
+     * @throws IllegalArgumentException if the project, host, API key or
+     *         queue capacity differ, which need a new sender
+     */
+    public synchronized void reconfigure(Config newConfig) {
+        checkReconfigurable(newConfig);
+        Config current = config;
+
+        // The core size may never exceed the maximum, so the order depends
+        // on the direction of the change
+        if (newConfig.getMaxWorkers() >= httpExecutor.getCorePoolSize()) {
+            httpExecutor.setMaximumPoolSize(newConfig.getMaxWorkers());
+            httpExecutor.setCorePoolSize(newConfig.getMinWorkers());
+        } else {
+            httpExecutor.setCorePoolSize(newConfig.getMinWorkers());
+            httpExecutor.setMaximumPoolSize(newConfig.getMaxWorkers());
+        }
+
+        this.config = newConfig;
+        if (newConfig.getBatchIntervalMillis() != current.getBatchIntervalMillis() && batchTask != null) {
+            batchTask.cancel(false);
+            scheduleBatches();
+        }
+    }
+
+    /**
+     * Stops the sender within the configured shutdown timeout.
+     *
+     * @see #shutdown(long)
+     */
     public void shutdown() {
+        shutdown(config.getShutdownTimeoutMillis());
+    }
+
+    /**
+     * Stops accepting logs and sends everything still queued, in parallel
+     * batches on all HTTP workers. Returns as soon as the last request
+     * finishes; requests still running at the deadline are abandoned.
+     *
+     * @param timeoutMillis deadline for sending the queued logs
+     * @return true if all queued logs were sent before the deadline, false
+     *         if the deadline passed or the sender was already shut down
+     */
+    public boolean shutdown(long timeoutMillis) {
         if (shutdown.getAndSet(true)) {
-            return;
+            return false;
         }
-
-        sendBatch();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
 
         scheduler.shutdown();
-        batchProcessor.shutdown();
 
+        // Submit the whole backlog at once so the batches go out concurrently
+        // instead of one per scheduler tick
+        while (!logQueue.isEmpty()) {
+            sendBatch();
+        }
+        httpExecutor.shutdown();
+
+        boolean drained = awaitTermination(httpExecutor, deadline);
+        if (!drained) {
+            statusReporter.report(StatusCategory.SEND_FAILED, "shutdown timeout of " + timeoutMillis
+                    + " ms reached with " + metrics.getInFlightBatches() + " batches still in flight");
+        }
+        awaitTermination(scheduler, deadline);
+
+        // Logs offered concurrently with the shutdown flag may still be queued
+        PendingLog late;
+        while ((late = logQueue.poll()) != null) {
+            late.release();
+            metrics.recordDroppedAfterShutdown();
+        }
+
+        unregisterMBean();
+        statusReporter.emitAllSummaries();
+        return drained;
+    }
+
+    private static boolean awaitTermination(ExecutorService executor, long deadline) {
         try {
-            if (!batchProcessor.awaitTermination(5, TimeUnit.SECONDS)) {
-                batchProcessor.shutdownNow();
+            if (executor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return true;
             }
         } catch (InterruptedException e) {
-            batchProcessor.shutdownNow();
             Thread.currentThread().interrupt();
         }
+        executor.shutdownNow();
+        return false;
+    }
 
-        httpExecutor.shutdown();
+    private ObjectName registerMBean() {
         try {
-            if (!httpExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
-                httpExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            httpExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
+            ObjectName name = new ObjectName("com.logbull:type=LogSender,project="
+                    + ObjectName.quote(String.valueOf(config.getProjectId()))
+                    + ",id=" + SENDER_IDS.incrementAndGet());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, name);
+            return name;
+        } catch (Exception | LinkageError e) {
+            // JMX is optional; the sender works without it
+            statusReporter.report(StatusCategory.INTERNAL, "failed to register sender MBean", e);
+            return null;
         }
+    }
 
+    private void unregisterMBean() {
+        if (mbeanName == null) {
+            return;
+        }
         try {
-            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                scheduler.shutdownNow();
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(mbeanName)) {
+                server.unregisterMBean(mbeanName);
             }
-        } catch (InterruptedException e) {
-            scheduler.shutdownNow();
-            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            statusReporter.report(StatusCategory.INTERNAL, "failed to unregister sender MBean", e);
         }
     }
 
     private void startBatchProcessor() {
-        scheduler.scheduleAtFixedRate(
-                this::sendBatch,
-                BATCH_INTERVAL_MS,
-                BATCH_INTERVAL_MS,
-                TimeUnit.MILLISECONDS);
+        if (started.compareAndSet(false, true)) {
+            scheduleBatches();
+        }
     }
 
-    private void sendBatch() {
-        if (shutdown.get() && logQueue.isEmpty()) {
-            return;
+    private synchronized void scheduleBatches() {
+        long intervalMillis = config.getBatchIntervalMillis();
+        try {
+            batchTask = scheduler.scheduleAtFixedRate(
+                    () -> {
+                        sendBatch();
+                        statusReporter.emitSummaries();
+                    },
+                    intervalMillis,
+                    intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shut down concurrently, the shutdown drains the queue instead
+        }
+    }
+
+    /**
+     * Hands the next batch to a worker.
+     *
+     * @return true if a batch was handed over, false if the queue was empty,
+     *         every worker was busy or the executor refused the batch
+     */
+    private boolean sendBatch() {
+        if (shutdown.get()) {
+            // The shutdown submits the whole backlog at once
+            busyWorkers.incrementAndGet();
+        } else if (!reserveWorker()) {
+            // Every worker is busy, possibly backing off before a retry. The
+            // logs stay in the bounded queue, so a lasting overload drops and
+            // counts new logs there instead of piling batches up behind the
+            // workers
+            return false;
         }
 
-        List<LogEntry> logs = new ArrayList<>();
-        logQueue.drainTo(logs, BATCH_SIZE);
+        List<PendingLog> logs = new ArrayList<>();
+        logQueue.drainTo(logs, config.getBatchSize());
 
         if (logs.isEmpty()) {
-            return;
+            busyWorkers.decrementAndGet();
+            return false;
         }
 
-        if (workerSemaphore.tryAcquire()) {
-            httpExecutor.submit(() -> {
-                try {
-                    sendHttpRequest(logs);
-                } finally {
-                    workerSemaphore.release();
-                }
-            });
-        } else {
-            httpExecutor.submit(() -> sendHttpRequest(logs));
+        // Numbered in drain order, so sequences follow the order of the logs
+        // even when workers pick batches up out of order
+        long sequence = batchSequence.incrementAndGet();
+        metrics.recordBatchStarted();
+        try {
+            httpExecutor.submit(() -> sendHttpRequest(logs, sequence));
+            return true;
+        } catch (RejectedExecutionException e) {
+            // Flushed concurrently with the end of the shutdown
+            busyWorkers.decrementAndGet();
+            metrics.recordBatchFinished();
+            for (PendingLog log : logs) {
+                log.release();
+                metrics.recordDroppedAfterShutdown();
+            }
+            return false;
+        }
+    }
+
+    private boolean reserveWorker() {
+        int busy;
+        do {
+            busy = busyWorkers.get();
+            if (busy >= config.getMaxWorkers()) {
+                return false;
+            }
+        } while (!busyWorkers.compareAndSet(busy, busy + 1));
+        return true;
+    }
+
+    private void sendHttpRequest(List<PendingLog> pendingLogs, long sequence) {
+        try {
+            send(pendingLogs, sequence);
+        } finally {
+            busyWorkers.decrementAndGet();
+            metrics.recordBatchFinished();
         }
     }
 
-    private void sendHttpRequest(List<LogEntry> logs) {
+    private void send(List<PendingLog> pendingLogs, long sequence) {
+        // One snapshot per batch, so a concurrent reconfigure cannot mix settings
+        Config config = this.config;
+        List<LogEntry> logs;
+        byte[] body;
         try {
-            LogBatch batch = new LogBatch(logs);
-            String json = objectMapper.writeValueAsString(createBatchPayload(batch));
-
-            String urlString = String.format(
-                    "%s/api/v1/logs/receiving/%s",
-                    config.getHost(),
-                    config.getProjectId());
-
-            URL url = new URI(urlString).toURL();
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("POST");
-            connection.setRequestProperty("Content-Type", "application/json");
-            connection.setRequestProperty("User-Agent", "LogBull-Java-Client/1.0");
-
-            if (config.getApiKey() != null && !config.getApiKey().isEmpty()) {
-                connection.setRequestProperty("X-API-Key", config.getApiKey());
+            BatchAssemblyEvent assemblyEvent = new BatchAssemblyEvent();
+            assemblyEvent.begin();
+            logs = materialize(pendingLogs);
+            if (assemblyEvent.shouldCommit()) {
+                assemblyEvent.queuedLogs = pendingLogs.size();
+                assemblyEvent.formattedLogs = logs.size();
+                assemblyEvent.commit();
+            }
+            if (logs.isEmpty()) {
+                return;
             }
 
-            connection.setDoOutput(true);
-            connection.setConnectTimeout(HTTP_TIMEOUT_MS);
-            connection.setReadTimeout(HTTP_TIMEOUT_MS);
+            BatchSerializationEvent serializationEvent = new BatchSerializationEvent();
+            serializationEvent.begin();
+            body = serializer.serialize(logs);
+            if (serializationEvent.shouldCommit()) {
+                serializationEvent.entries = logs.size();
+                serializationEvent.bytes = body.length;
+                serializationEvent.commit();
+            }
+        } catch (Exception e) {
+            statusReporter.report(StatusCategory.SEND_FAILED, "failed to send batch", e);
+            return;
+        }
 
-            try (OutputStream os = connection.getOutputStream()) {
-                byte[] input = json.getBytes(StandardCharsets.UTF_8);
-                os.write(input, 0, input.length);
+        try {
+            sendWithRetries(config, logs, body, sequence);
+        } catch (Exception e) {
+            statusReporter.report(StatusCategory.SEND_FAILED, "failed to send batch", e);
+        }
+    }
+
+    private void sendWithRetries(Config config, List<LogEntry> logs, byte[] body, long sequence) {
+        // Identity of the batch, repeated on every retry so the server can
+        // discard duplicates of a request whose response was lost
+        String batchId = UUID.randomUUID().toString();
+
+        for (int attempt = 1;; attempt++) {
+            HttpSendEvent sendEvent = new HttpSendEvent();
+            sendEvent.begin();
+            long start = System.nanoTime();
+            HttpURLConnection connection = null;
+            int responseCode;
+            IOException failure = null;
+            try {
+                connection = openConnection(config, body, batchId, sequence);
+                responseCode = connection.getResponseCode();
+            } catch (IOException e) {
+                responseCode = -1;
+                failure = e;
             }
+            boolean success = responseCode == 200 || responseCode == 202;
+            commitSendEvent(sendEvent, responseCode, success, logs.size(), body.length, sequence, attempt);
+            String status = responseCode == -1 ? SenderMetrics.IO_ERROR : String.valueOf(responseCode);
 
-            int responseCode = connection.getResponseCode();
-            if (responseCode == 200 || responseCode == 202) {
-                try {
-                    String responseBody = new String(
-                            connection.getInputStream().readAllBytes(),
-                            StandardCharsets.UTF_8);
-                    LogBullResponse response = parseResponse(responseBody);
-                    if (response.getRejected() > 0) {
-                        handleRejectedLogs(response, logs);
-                    }
-                } catch (Exception e) {
-                    // Response parsing failed, but logs were accepted
+            if (!success && attempt <= config.getMaxRetries() && isRetryable(responseCode)) {
+                if (connection != null) {
+                    readQuietly(connection.getErrorStream());
                 }
+                metrics.recordRetry(status);
+                long backoffMillis = backoffMillis(config, attempt);
+                commitRetryEvent(batchId, sequence, attempt, responseCode, backoffMillis);
+                if (sleep(backoffMillis)) {
+                    continue;
+                }
+            }
+
+            metrics.recordResponse(status, success, logs.size(), body.length, System.nanoTime() - start);
+            if (success) {
+                handleAccepted(connection, logs);
+            } else if (failure != null) {
+                statusReporter.report(StatusCategory.SEND_FAILED,
+                        "HTTP request failed" + describeAttempts(attempt), failure);
             } else {
-                String errorBody = new String(
-                        connection.getErrorStream().readAllBytes(),
-                        StandardCharsets.UTF_8);
-                System.err.println(
-                        "LogBull: server returned status " + responseCode + ": " + errorBody);
+                statusReporter.report(StatusCategory.SEND_FAILED, "server returned status " + responseCode
+                        + describeAttempts(attempt) + ": " + readQuietly(connection.getErrorStream()));
             }
+            return;
+        }
+    }
 
-        } catch (IOException e) {
-            System.err.println("LogBull: HTTP request failed: " + e.getMessage());
+    private HttpURLConnection openConnection(Config config, byte[] body, String batchId, long sequence)
+            throws IOException {
+        String urlString = String.format(
+                "%s/api/v1/logs/receiving/%s",
+                config.getHost(),
+                config.getProjectId());
+
+        URL url;
+        try {
+            url = new URI(urlString).toURL();
+        } catch (URISyntaxException e) {
+            throw new IOException("invalid LogBull URL " + urlString, e);
+        }
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "application/json");
+        connection.setRequestProperty("User-Agent", "LogBull-Java-Client/1.0");
+        connection.setRequestProperty(BATCH_ID_HEADER, batchId);
+        connection.setRequestProperty(BATCH_SEQUENCE_HEADER, Long.toString(sequence));
+
+        if (config.getApiKey() != null && !config.getApiKey().isEmpty()) {
+            connection.setRequestProperty("X-API-Key", config.getApiKey());
+        }
+
+        connection.setDoOutput(true);
+        connection.setConnectTimeout(config.getHttpTimeoutMillis());
+        connection.setReadTimeout(config.getHttpTimeoutMillis());
+
+        connection.setFixedLengthStreamingMode(body.length);
+        try (OutputStream os = connection.getOutputStream()) {
+            os.write(body, 0, body.length);
+        }
+        return connection;
+    }
+
+    private void handleAccepted(HttpURLConnection connection, List<LogEntry> logs) {
+        try {
+            String responseBody = new String(
+                    connection.getInputStream().readAllBytes(),
+                    StandardCharsets.UTF_8);
+            LogBullResponse response = parseResponse(responseBody);
+            if (response.getRejected() > 0) {
+                metrics.recordRejected(response.getRejected());
+                handleRejectedLogs(response, logs);
+            }
         } catch (Exception e) {
-            System.err.println("LogBull: failed to send batch: " + e.getMessage());
+            // Response parsing failed, but logs were accepted
         }
     }
 
-    private Map<String, Object> createBatchPayload(LogBatch batch) {
-        List<Map<String, Object>> logsList = new ArrayList<>();
-        for (LogEntry entry : batch.getLogs()) {
-            Map<String, Object> logMap = Map.of(
-                    "level", entry.getLevel(),
-                    "message", entry.getMessage(),
-                    "timestamp", entry.getTimestamp(),
-                    "fields", entry.getFields());
-            logsList.add(logMap);
+    /**
+     * Connection failures, timeouts, throttling and server errors may pass
+     * on a later attempt; other client errors will not.
+     */
+    private static boolean isRetryable(int responseCode) {
+        return responseCode == -1 || responseCode == 408 || responseCode == 429 || responseCode >= 500;
+    }
+
+    private static String describeAttempts(int attempts) {
+        return attempts > 1 ? " after " + attempts + " attempts" : "";
+    }
+
+    private static long backoffMillis(Config config, int attempt) {
+        long backoff = config.getRetryBackoffMillis() << Math.min(attempt - 1, 20);
+        return Math.min(backoff, MAX_RETRY_BACKOFF_MILLIS);
+    }
+
+    /**
+     * Waits before a retry. Returns false if interrupted, which happens when
+     * the shutdown deadline passes.
+     */
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String readQuietly(InputStream stream) {
+        if (stream == null) {
+            return "";
+        }
+        try (InputStream in = stream) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static void commitSendEvent(HttpSendEvent event, int status, boolean success, int entries,
+            int bytes, long sequence, int attempt) {
+        if (event.shouldCommit()) {
+            event.status = status;
+            event.success = success;
+            event.entries = entries;
+            event.bytes = bytes;
+            event.sequence = sequence;
+            event.attempt = attempt;
+            event.commit();
+        }
+    }
+
+    private static void commitRetryEvent(String batchId, long sequence, int attempt, int status,
+            long backoffMillis) {
+        SendRetryEvent event = new SendRetryEvent();
+        if (event.shouldCommit()) {
+            event.batchId = batchId;
+            event.sequence = sequence;
+            event.attempt = attempt;
+            event.status = status;
+            event.backoffMillis = backoffMillis;
+            event.commit();
         }
-        return Map.of("logs", logsList);
+    }
+
+    private List<LogEntry> materialize(List<PendingLog> pendingLogs) {
+        List<LogEntry> logs = new ArrayList<>(pendingLogs.size());
+        for (PendingLog pendingLog : pendingLogs) {
+            try {
+                logs.add(pendingLog.toLogEntry());
+            } catch (Exception e) {
+                metrics.recordDroppedFormatFailure();
+                statusReporter.report(StatusCategory.FORMAT_FAILED, "failed to format log, dropping it", e);
+            } finally {
+                pendingLog.release();
+            }
+        }
+        return logs;
     }
 
     private LogBullResponse parseResponse(String json) {
@@ -240,23 +642,67 @@ public class LogSender {
     }
 
     private void handleRejectedLogs(LogBullResponse response, List<LogEntry> sentLogs) {
-        System.err.println("LogBull: Rejected " + response.getRejected() + " log entries");
+        statusReporter.report(StatusCategory.REJECTED_LOGS, () -> describeRejectedLogs(response, sentLogs));
+    }
+
+    private static String describeRejectedLogs(LogBullResponse response, List<LogEntry> sentLogs) {
+        StringBuilder details = new StringBuilder()
+                .append("Rejected ").append(response.getRejected()).append(" log entries");
 
         if (!response.getErrors().isEmpty()) {
-            System.err.println("LogBull: Rejected log details:");
+            details.append("\nRejected log details:");
             for (LogBullResponse.RejectedLog error : response.getErrors()) {
                 int index = error.getIndex();
                 if (index >= 0 && index < sentLogs.size()) {
                     LogEntry log = sentLogs.get(index);
-                    System.err.println("  - Log #" + index + " rejected (" + error.getMessage() + "):");
-                    System.err.println("    Level: " + log.getLevel());
-                    System.err.println("    Message: " + log.getMessage());
-                    System.err.println("    Timestamp: " + log.getTimestamp());
+                    details.append("\n  - Log #").append(index)
+                            .append(" rejected (").append(error.getMessage()).append("):")
+                            .append("\n    Level: ").append(log.getLevel())
+                            .append("\n    Message: ").append(log.getMessage())
+                            .append("\n    Timestamp: ").append(log.getTimestamp());
                     if (!log.getFields().isEmpty()) {
-                        System.err.println("    Fields: " + log.getFields());
+                        details.append("\n    Fields: ").append(log.getFields());
                     }
                 }
             }
         }
+        return details.toString();
+    }
+
+    /**
+     * Work queue that makes the executor start threads up to its maximum
+     * before tasks queue up. A thread pool only grows beyond its core size
+     * when its queue refuses a task, which an unbounded queue never does.
+     */
+    private static final class WorkerQueue extends LinkedTransferQueue<Runnable> {
+        private ThreadPoolExecutor executor;
+
+        @Override
+        public boolean offer(Runnable task) {
+            // Hand the task to an idle worker, or refuse it so that the
+            // executor starts another worker while below its maximum
+            if (tryTransfer(task)) {
+                return true;
+            }
+            if (executor.getPoolSize() < executor.getMaximumPoolSize()) {
+                return false;
+            }
+            return super.offer(task);
+        }
+
+        /**
+         * Queues a task the executor rejected because the last worker slot
+         * was taken after {@link #offer} refused the task.
+         */
+        private static void forceOffer(Runnable task, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("LogBull sender is shut down");
+            }
+            ((WorkerQueue) executor.getQueue()).queue(task);
+        }
+
+        private void queue(Runnable task) {
+            super.offer(task);
+        }
     }
 }
@@ -0,0 +1,80 @@
+package com.logbull.internal.sender;
+
+import java.util.Map;
+
+/**
+ * JMX view of a {@link LogSender}. Registered as
+ * {@code com.logbull:type=LogSender,project=<projectId>,id=<n>} for the
+ * lifetime of the sender.
+ */
+public interface LogSenderMXBean {
+
+    /**
+     * Logs currently waiting in the queue.
+     */
+    int getQueueDepth();
+
+    int getQueueCapacity();
+
+    /**
+     * Logs accepted into the queue since the sender was created.
+     */
+    long getEnqueuedLogs();
+
+    /**
+     * Logs dropped because the queue was full.
+     */
+    long getDroppedQueueFull();
+
+    /**
+     * Logs dropped because the sender was already shut down.
+     */
+    long getDroppedAfterShutdown();
+
+    /**
+     * Logs dropped because they could not be formatted.
+     */
+    long getDroppedFormatFailure();
+
+    /**
+     * Batches taken from the queue whose HTTP request has not completed.
+     */
+    long getInFlightBatches();
+
+    long getBatchesSent();
+
+    /**
+     * Batches that failed with an I/O error or a non-success status.
+     */
+    long getBatchesFailed();
+
+    /**
+     * Batches that failed since the last successful one.
+     */
+    long getConsecutiveFailedBatches();
+
+    /**
+     * Batch requests resent after a connection failure or a retryable
+     * status. Not counted in the sent and failed batches.
+     */
+    long getRetries();
+
+    long getLogsSent();
+
+    long getBytesSent();
+
+    /**
+     * Logs the server reported as rejected in accepted batches.
+     */
+    long getLogsRejected();
+
+    /**
+     * Completed requests by HTTP status code, with {@code "IO_ERROR"} for
+     * requests that got no response.
+     */
+    Map<String, Long> getHttpStatusCounts();
+
+    double getAverageSendLatencyMillis();
+
+    double getMaxSendLatencyMillis();
+}
@@ -0,0 +1,163 @@
+package com.logbull.internal.sender;
+
+import com.logbull.Config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Shares one sender between all loggers and appenders created with an equal
+ * {@link Config}. Each user holds a lease, and the sender shuts down when the
+ * last lease is released. A sender is only reconfigured while a single lease
+ * on it is held, so other users never pick up settings they did not ask for.
+ */
+public final class LogSenderRegistry {
+    private static final Map<Config, SharedSender> SENDERS = new HashMap<>();
+
+    private LogSenderRegistry() {
+    }
+
+    /**
+     * Returns a lease on the sender for the given configuration, creating
+     * the sender if no lease on it is held.
+     *
+     * @param config sender configuration
+     * @return lease to release when the sender is no longer used
+     */
+    public static Lease acquire(Config config) {
+        synchronized (SENDERS) {
+            SharedSender shared = SENDERS.computeIfAbsent(config, c -> new SharedSender(c, new LogSender(c)));
+            shared.leases++;
+            return new Lease(shared);
+        }
+    }
+
+    /**
+     * Returns the number of senders with leases held.
+     */
+    static int size() {
+        synchronized (SENDERS) {
+            return SENDERS.size();
+        }
+    }
+
+    private static void checkReconfigurable(SharedSender shared, Config newConfig) {
+        synchronized (SENDERS) {
+            checkExclusive(shared);
+            shared.sender.checkReconfigurable(newConfig);
+        }
+    }
+
+    private static void reconfigure(SharedSender shared, Config newConfig) {
+        synchronized (SENDERS) {
+            checkExclusive(shared);
+            shared.sender.reconfigure(newConfig);
+
+            // Re-keyed, so acquiring with the old configuration creates a new
+            // sender. If another sender already runs with the new one, this
+            // sender is no longer shared
+            SENDERS.remove(shared.config, shared);
+            shared.config = newConfig;
+            SENDERS.putIfAbsent(newConfig, shared);
+        }
+    }
+
+    private static void checkExclusive(SharedSender shared) {
+        if (shared.leases > 1) {
+            throw new IllegalStateException("LogBull sender is shared with " + (shared.leases - 1)
+                    + " other logger(s) or appender(s) created from an equal Config, which would silently "
+                    + "follow the change; give them different configurations to reconfigure them separately");
+        }
+    }
+
+    private static boolean release(SharedSender shared, long timeoutMillis) {
+        synchronized (SENDERS) {
+            if (--shared.leases > 0) {
+                return true;
+            }
+            SENDERS.remove(shared.config, shared);
+        }
+        // Drain outside the lock so other configurations are not blocked
+        return shared.sender.shutdown(timeoutMillis);
+    }
+
+    private static final class SharedSender {
+        private final LogSender sender;
+        private Config config;
+        private int leases;
+
+        private SharedSender(Config config, LogSender sender) {
+            this.config = config;
+            this.sender = sender;
+        }
+    }
+
+    /**
+     * A claim on a shared sender. Releasing it more than once has no effect.
+     */
+    public static final class Lease {
+        private final SharedSender shared;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(SharedSender shared) {
+            this.shared = shared;
+        }
+
+        public LogSender getSender() {
+            return shared.sender;
+        }
+
+        /**
+         * Checks that {@link #reconfigure(Config)} would accept the given
+         * configuration, without changing anything.
+         *
+         * @param newConfig configuration to check
+         * @throws IllegalStateException if another lease on the sender is held
+         * @throws IllegalArgumentException if the project, host, API key or
+         *         queue capacity differ, which need a new sender
+         */
+        public void checkReconfigurable(Config newConfig) {
+            LogSenderRegistry.checkReconfigurable(shared, newConfig);
+        }
+
+        /**
+         * Switches the settings of the sender, which must not be shared with
+         * another lease, and registers it under the new configuration.
+         *
+         * @param newConfig configuration to switch to
+         * @throws IllegalStateException if another lease on the sender is held
+         * @throws IllegalArgumentException if the project, host, API key or
+         *         queue capacity differ, which need a new sender
+         */
+        public void reconfigure(Config newConfig) {
+            LogSenderRegistry.reconfigure(shared, newConfig);
+        }
+
+        /**
+         * Releases the lease, shutting the sender down within the configured
+         * shutdown timeout if this was the last one.
+         *
+         * @return false if queued logs were lost or the lease was already
+         *         released
+         */
+        public boolean release() {
+            return release(shared.sender.getConfig().getShutdownTimeoutMillis());
+        }
+
+        /**
+         * Releases the lease, shutting the sender down within the given
+         * deadline if this was the last one.
+         *
+         * @param timeoutMillis deadline for sending the queued logs
+         * @return false if queued logs were lost or the lease was already
+         *         released
+         */
+        public boolean release(long timeoutMillis) {
+            if (released.getAndSet(true)) {
+                return false;
+            }
+            return LogSenderRegistry.release(shared, timeoutMillis);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.logbull.internal.sender;
+
+import com.logbull.core.LogEntry;
+
+/**
+ * A log waiting in the sender queue. Implementations may defer formatting
+ * until the sender thread asks for the final entry.
+ */
+public interface PendingLog {
+
+    /**
+     * Returns the final log entry. Called on a sender thread, possibly more
+     * than once, and must return the same entry every time.
+     *
+     * @return log entry to send
+     */
+    LogEntry toLogEntry();
+
+    /**
+     * Called on a sender thread once the final entry has been taken. Pooled
+     * implementations may be reused afterwards and must not be touched again
+     * by the sender.
+     */
+    default void release() {
+    }
+}
@@ -0,0 +1,17 @@
+package com.logbull.internal.sender;
+
+/**
+ * Callback for completed batch requests, invoked on the HTTP sender thread.
+ * Implementations must be fast and must not throw.
+ */
+public interface SendListener {
+
+    /**
+     * @param status HTTP status code, or {@code "IO_ERROR"} if no response was received
+     * @param success whether the server accepted the batch
+     * @param logs number of logs in the batch
+     * @param bytes size of the request body
+     * @param nanos duration of the HTTP request
+     */
+    void onBatchCompleted(String status, boolean success, int logs, int bytes, long nanos);
+}
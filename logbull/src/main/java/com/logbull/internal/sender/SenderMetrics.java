@@ -0,0 +1,218 @@
+package com.logbull.internal.sender;
+
+import com.logbull.internal.status.StatusCategory;
+import com.logbull.internal.status.StatusReporter;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a {@link LogSender}. Updates only touch striped
+ * {@link LongAdder}s, so recording on the logging threads never blocks.
+ */
+public class SenderMetrics implements LogSenderMXBean {
+    static final String IO_ERROR = "IO_ERROR";
+
+    private final BlockingQueue<?> queue;
+    private final int queueCapacity;
+    private final StatusReporter statusReporter;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder droppedQueueFull = new LongAdder();
+    private final LongAdder droppedAfterShutdown = new LongAdder();
+    private final LongAdder droppedFormatFailure = new LongAdder();
+    private final LongAdder inFlightBatches = new LongAdder();
+    private final LongAdder batchesSent = new LongAdder();
+    private final LongAdder batchesFailed = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder logsSent = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder logsRejected = new LongAdder();
+    private final LongAdder sendCount = new LongAdder();
+    private final LongAdder sendNanos = new LongAdder();
+    private final LongAccumulator maxSendNanos = new LongAccumulator(Math::max, 0);
+    private final Map<String, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final AtomicLong consecutiveFailures = new AtomicLong();
+    private final CopyOnWriteArrayList<SendListener> listeners = new CopyOnWriteArrayList<>();
+
+    SenderMetrics(BlockingQueue<?> queue, int queueCapacity, StatusReporter statusReporter) {
+        this.queue = queue;
+        this.queueCapacity = queueCapacity;
+        this.statusReporter = statusReporter;
+    }
+
+    /**
+     * Registers a listener notified after every completed batch request.
+     */
+    public void addSendListener(SendListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeSendListener(SendListener listener) {
+        listeners.remove(listener);
+    }
+
+    void recordEnqueued() {
+        enqueued.increment();
+    }
+
+    void recordDroppedQueueFull() {
+        droppedQueueFull.increment();
+    }
+
+    void recordDroppedAfterShutdown() {
+        droppedAfterShutdown.increment();
+    }
+
+    void recordDroppedFormatFailure() {
+        droppedFormatFailure.increment();
+    }
+
+    void recordBatchStarted() {
+        inFlightBatches.increment();
+    }
+
+    void recordBatchFinished() {
+        inFlightBatches.decrement();
+    }
+
+    void recordResponse(String status, boolean success, int logs, int bytes, long nanos) {
+        statusCounter(status).increment();
+        sendCount.increment();
+        sendNanos.add(nanos);
+        maxSendNanos.accumulate(nanos);
+        if (success) {
+            batchesSent.increment();
+            logsSent.add(logs);
+            bytesSent.add(bytes);
+            consecutiveFailures.set(0);
+        } else {
+            batchesFailed.increment();
+            consecutiveFailures.incrementAndGet();
+        }
+        for (SendListener listener : listeners) {
+            try {
+                listener.onBatchCompleted(status, success, logs, bytes, nanos);
+            } catch (RuntimeException e) {
+                statusReporter.report(StatusCategory.INTERNAL, "send listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * Records a failed attempt that will be retried. The batch outcome is
+     * recorded by {@link #recordResponse} once the batch is done.
+     */
+    void recordRetry(String status) {
+        statusCounter(status).increment();
+        retries.increment();
+    }
+
+    void recordRejected(int logs) {
+        logsRejected.add(logs);
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    @Override
+    public long getEnqueuedLogs() {
+        return enqueued.sum();
+    }
+
+    @Override
+    public long getDroppedQueueFull() {
+        return droppedQueueFull.sum();
+    }
+
+    @Override
+    public long getDroppedAfterShutdown() {
+        return droppedAfterShutdown.sum();
+    }
+
+    @Override
+    public long getDroppedFormatFailure() {
+        return droppedFormatFailure.sum();
+    }
+
+    @Override
+    public long getInFlightBatches() {
+        return inFlightBatches.sum();
+    }
+
+    @Override
+    public long getBatchesSent() {
+        return batchesSent.sum();
+    }
+
+    @Override
+    public long getBatchesFailed() {
+        return batchesFailed.sum();
+    }
+
+    @Override
+    public long getConsecutiveFailedBatches() {
+        return consecutiveFailures.get();
+    }
+
+    @Override
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    @Override
+    public long getLogsSent() {
+        return logsSent.sum();
+    }
+
+    @Override
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    @Override
+    public long getLogsRejected() {
+        return logsRejected.sum();
+    }
+
+    @Override
+    public Map<String, Long> getHttpStatusCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : statusCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public double getAverageSendLatencyMillis() {
+        long count = sendCount.sum();
+        return count == 0 ? 0.0 : sendNanos.sum() / (double) count / 1_000_000.0;
+    }
+
+    @Override
+    public double getMaxSendLatencyMillis() {
+        return maxSendNanos.get() / 1_000_000.0;
+    }
+
+    private LongAdder statusCounter(String status) {
+        LongAdder counter = statusCounts.get(status);
+        if (counter == null) {
+            counter = statusCounts.computeIfAbsent(status, key -> new LongAdder());
+        }
+        return counter;
+    }
+}
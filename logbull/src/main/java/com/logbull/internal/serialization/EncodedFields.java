@@ -0,0 +1,126 @@
+package com.logbull.internal.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable set of already validated fields together with their JSON
+ * encoding. The encoding is a fragment of object members without the
+ * surrounding braces ({@code "a":1,"b":"x"}), so it can be spliced into the
+ * fields object of every log entry that carries it.
+ */
+public final class EncodedFields implements FieldSource {
+    public static final EncodedFields EMPTY = new EncodedFields(Collections.emptyMap(), new byte[0]);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private volatile Map<String, Object> fields;
+    private final byte[] json;
+
+    private EncodedFields(Map<String, Object> fields, byte[] json) {
+        this.fields = fields;
+        this.json = json;
+    }
+
+    /**
+     * Freezes and encodes the given fields. The fields must already have been
+     * validated and formatted.
+     *
+     * @param fields formatted fields, may be null
+     * @return encoded fields
+     */
+    public static EncodedFields of(Map<String, Object> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<String, Object> copy = Collections.unmodifiableMap(new LinkedHashMap<>(fields));
+        JsonWriter writer = new JsonWriter(copy.size() * 32);
+        boolean first = true;
+        for (Map.Entry<String, Object> entry : copy.entrySet()) {
+            if (!first) {
+                writer.writeByte(',');
+            }
+            writer.writeName(entry.getKey());
+            writer.writeValue(entry.getValue());
+            first = false;
+        }
+        return new EncodedFields(copy, writer.toByteArray());
+    }
+
+    /**
+     * Wraps an already encoded members fragment. The field map is only
+     * decoded if {@link #getFields()} is called.
+     *
+     * @param json encoded members without braces
+     * @return encoded fields
+     */
+    public static EncodedFields ofEncoded(byte[] json) {
+        if (json.length == 0) {
+            return EMPTY;
+        }
+        return new EncodedFields(null, json);
+    }
+
+    @Override
+    public Map<String, Object> getFields() {
+        Map<String, Object> result = fields;
+        if (result == null) {
+            result = decode();
+            fields = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return json.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return getFields().containsKey(key);
+    }
+
+    @Override
+    public void writeTo(JsonWriter writer) {
+        writer.writeRaw(json);
+    }
+
+    private Map<String, Object> decode() {
+        byte[] object = new byte[json.length + 2];
+        object[0] = '{';
+        System.arraycopy(json, 0, object, 1, json.length);
+        object[object.length - 1] = '}';
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> decoded = OBJECT_MAPPER.readValue(object, LinkedHashMap.class);
+            return Collections.unmodifiableMap(decoded);
+        } catch (IOException e) {
+            return Collections.emptyMap();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        return getFields().equals(((EncodedFields) o).getFields());
+    }
+
+    @Override
+    public int hashCode() {
+        return getFields().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getFields().toString();
+    }
+}
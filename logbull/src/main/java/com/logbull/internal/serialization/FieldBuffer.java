@@ -0,0 +1,227 @@
+package com.logbull.internal.serialization;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Reusable buffer of typed fields. Primitive values are kept in primitive
+ * slots, so adding them neither boxes nor allocates once the buffer has
+ * grown to its working size. A buffer is not thread-safe and is meant to be
+ * confined to one thread and cleared between events.
+ */
+public final class FieldBuffer {
+    private static final byte TYPE_OBJECT = 0;
+    private static final byte TYPE_LONG = 1;
+    private static final byte TYPE_DOUBLE = 2;
+    private static final byte TYPE_BOOLEAN = 3;
+
+    private String[] keys = new String[8];
+    private byte[] types = new byte[8];
+    private long[] longs = new long[8];
+    private double[] doubles = new double[8];
+    private Object[] objects = new Object[8];
+    private int size;
+
+    private final JsonWriter writer = new JsonWriter(512);
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public String keyAt(int index) {
+        return keys[index];
+    }
+
+    public void setKeyAt(int index, String key) {
+        keys[index] = key;
+    }
+
+    public void removeAt(int index) {
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(types, index + 1, types, index, moved);
+            System.arraycopy(longs, index + 1, longs, index, moved);
+            System.arraycopy(doubles, index + 1, doubles, index, moved);
+            System.arraycopy(objects, index + 1, objects, index, moved);
+        }
+        size--;
+        keys[size] = null;
+        objects[size] = null;
+    }
+
+    /**
+     * Drops all fields after the first {@code newSize} ones.
+     */
+    public void truncate(int newSize) {
+        if (newSize >= size) {
+            return;
+        }
+        Arrays.fill(keys, newSize, size, null);
+        Arrays.fill(objects, newSize, size, null);
+        size = newSize;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(objects, 0, size, null);
+        size = 0;
+    }
+
+    public void add(String key, Object value) {
+        int slot = slotFor(key);
+        types[slot] = TYPE_OBJECT;
+        objects[slot] = value;
+    }
+
+    public void add(String key, long value) {
+        int slot = slotFor(key);
+        types[slot] = TYPE_LONG;
+        longs[slot] = value;
+        objects[slot] = null;
+    }
+
+    public void add(String key, double value) {
+        int slot = slotFor(key);
+        types[slot] = TYPE_DOUBLE;
+        doubles[slot] = value;
+        objects[slot] = null;
+    }
+
+    public void add(String key, boolean value) {
+        int slot = slotFor(key);
+        types[slot] = TYPE_BOOLEAN;
+        longs[slot] = value ? 1 : 0;
+        objects[slot] = null;
+    }
+
+    public boolean containsKey(String key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Checks whether any buffered key also exists in the given fields.
+     */
+    public boolean overridesAny(EncodedFields fields) {
+        if (fields.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (fields.containsKey(keys[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Encodes the buffered fields, preceded by any inherited fields that are
+     * not overridden by the buffer.
+     *
+     * @param inherited fields to include first, may be null
+     * @return encoded fields
+     */
+    public EncodedFields encode(Map<String, Object> inherited) {
+        writer.reset();
+        boolean first = true;
+
+        if (inherited != null) {
+            for (Map.Entry<String, Object> entry : inherited.entrySet()) {
+                if (containsKey(entry.getKey())) {
+                    continue;
+                }
+                if (!first) {
+                    writer.writeByte(',');
+                }
+                writer.writeName(entry.getKey());
+                writer.writeValue(entry.getValue());
+                first = false;
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (!first) {
+                writer.writeByte(',');
+            }
+            writer.writeName(keys[i]);
+            writeValue(i);
+            first = false;
+        }
+
+        return EncodedFields.ofEncoded(writer.toByteArray());
+    }
+
+    /**
+     * Appends the buffered fields as {@code key=value} pairs separated by
+     * commas.
+     */
+    public void appendTo(StringBuilder output) {
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                output.append(", ");
+            }
+            output.append(keys[i]).append('=');
+            switch (types[i]) {
+                case TYPE_LONG:
+                    output.append(longs[i]);
+                    break;
+                case TYPE_DOUBLE:
+                    output.append(doubles[i]);
+                    break;
+                case TYPE_BOOLEAN:
+                    output.append(longs[i] != 0);
+                    break;
+                default:
+                    output.append(objects[i]);
+            }
+        }
+    }
+
+    private void writeValue(int index) {
+        switch (types[index]) {
+            case TYPE_LONG:
+                writer.writeLong(longs[index]);
+                break;
+            case TYPE_DOUBLE:
+                writer.writeDouble(doubles[index]);
+                break;
+            case TYPE_BOOLEAN:
+                writer.writeBoolean(longs[index] != 0);
+                break;
+            default:
+                writer.writeValue(objects[index]);
+        }
+    }
+
+    private int slotFor(String key) {
+        int existing = indexOf(key);
+        if (existing >= 0) {
+            return existing;
+        }
+
+        if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            types = Arrays.copyOf(types, capacity);
+            longs = Arrays.copyOf(longs, capacity);
+            doubles = Arrays.copyOf(doubles, capacity);
+            objects = Arrays.copyOf(objects, capacity);
+        }
+        keys[size] = key;
+        return size++;
+    }
+
+    private int indexOf(String key) {
+        for (int i = 0; i < size; i++) {
+            String existing = keys[i];
+            if (existing == key || (existing != null && existing.equals(key))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,31 @@
+package com.logbull.internal.serialization;
+
+import java.util.Map;
+
+/**
+ * Fields that can write themselves straight into a batch payload as JSON
+ * object members, without being copied into a map first.
+ */
+public interface FieldSource {
+
+    boolean isEmpty();
+
+    /**
+     * Returns whether a field with the given key would be written.
+     */
+    default boolean containsKey(String key) {
+        return getFields().containsKey(key);
+    }
+
+    /**
+     * Writes the fields as object members, without braces, to the writer.
+     * Nothing is written when the source is empty.
+     */
+    void writeTo(JsonWriter writer);
+
+    /**
+     * Returns the fields as a map. Only meant for inspection, serialization
+     * goes through {@link #writeTo(JsonWriter)}.
+     */
+    Map<String, Object> getFields();
+}
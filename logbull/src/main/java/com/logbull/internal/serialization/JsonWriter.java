@@ -0,0 +1,255 @@
+package com.logbull.internal.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Minimal UTF-8 JSON writer backed by a growable byte array.
+ * Common field values are written directly; anything else is delegated to
+ * Jackson.
+ */
+public final class JsonWriter {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buffer;
+    private int size;
+
+    public JsonWriter() {
+        this(256);
+    }
+
+    public JsonWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    public void writeByte(char c) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) c;
+    }
+
+    public void writeRaw(byte[] bytes) {
+        writeRaw(bytes, 0, bytes.length);
+    }
+
+    public void writeRaw(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    public void writeNull() {
+        writeRaw(NULL);
+    }
+
+    public void writeBoolean(boolean value) {
+        writeRaw(value ? TRUE : FALSE);
+    }
+
+    public void writeLong(long value) {
+        writeAscii(Long.toString(value));
+    }
+
+    public void writeDouble(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            // Same as Jackson's default: non-finite numbers become strings
+            writeString(Double.toString(value));
+            return;
+        }
+        writeAscii(Double.toString(value));
+    }
+
+    /**
+     * Writes a float with its own shortest representation, so {@code 0.1f}
+     * is written as {@code 0.1} rather than widened to a double first.
+     */
+    public void writeFloat(float value) {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            writeString(Float.toString(value));
+            return;
+        }
+        writeAscii(Float.toString(value));
+    }
+
+    /**
+     * Writes {@code "name":}.
+     */
+    public void writeName(String name) {
+        writeString(name);
+        writeByte(':');
+    }
+
+    /**
+     * Writes a quoted, escaped JSON string.
+     */
+    public void writeString(String value) {
+        int length = value.length();
+        // Worst case: every char expands to a 6 byte escape sequence
+        ensureCapacity(length * 6 + 2);
+
+        byte[] buf = buffer;
+        int pos = size;
+        buf[pos++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    buf[pos++] = (byte) c;
+                } else {
+                    pos = writeEscape(buf, pos, c);
+                }
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buf[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                buf[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buf[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogate, not representable in UTF-8
+                buf[pos++] = '?';
+            } else {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        buf[pos++] = '"';
+        size = pos;
+    }
+
+    /**
+     * Writes a quoted JSON string that is already known to be plain ASCII,
+     * skipping the escape checks when possible.
+     *
+     * @param value      string to write
+     * @param utf8Length number of bytes of the UTF-8 encoded string
+     * @param plainAscii whether the string only contains ASCII characters
+     *                   that need no escaping
+     */
+    public void writeString(String value, int utf8Length, boolean plainAscii) {
+        int length = value.length();
+        if (!plainAscii || utf8Length != length) {
+            writeString(value);
+            return;
+        }
+
+        // Plain ASCII: one byte per char and nothing to escape
+        ensureCapacity(utf8Length + 2);
+        byte[] buf = buffer;
+        int pos = size;
+        buf[pos++] = '"';
+        for (int i = 0; i < length; i++) {
+            buf[pos++] = (byte) value.charAt(i);
+        }
+        buf[pos++] = '"';
+        size = pos;
+    }
+
+    /**
+     * Writes an arbitrary field value. Strings, numbers, booleans and null are
+     * written directly, other values are serialized with Jackson.
+     */
+    public void writeValue(Object value) {
+        if (value == null) {
+            writeNull();
+        } else if (value instanceof String) {
+            writeString((String) value);
+        } else if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            writeLong(((Number) value).longValue());
+        } else if (value instanceof Double) {
+            writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            writeFloat((Float) value);
+        } else if (value instanceof BigDecimal || value instanceof BigInteger) {
+            writeAscii(value.toString());
+        } else if (value instanceof Boolean) {
+            writeBoolean((Boolean) value);
+        } else {
+            try {
+                writeRaw(OBJECT_MAPPER.writeValueAsBytes(value));
+            } catch (JsonProcessingException e) {
+                writeString(String.valueOf(value));
+            }
+        }
+    }
+
+    private void writeAscii(String value) {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[size++] = (byte) value.charAt(i);
+        }
+    }
+
+    private static int writeEscape(byte[] buf, int pos, char c) {
+        buf[pos++] = '\\';
+        switch (c) {
+            case '"':
+                buf[pos++] = '"';
+                break;
+            case '\\':
+                buf[pos++] = '\\';
+                break;
+            case '\n':
+                buf[pos++] = 'n';
+                break;
+            case '\r':
+                buf[pos++] = 'r';
+                break;
+            case '\t':
+                buf[pos++] = 't';
+                break;
+            case '\b':
+                buf[pos++] = 'b';
+                break;
+            case '\f':
+                buf[pos++] = 'f';
+                break;
+            default:
+                buf[pos++] = 'u';
+                buf[pos++] = '0';
+                buf[pos++] = '0';
+                buf[pos++] = HEX[(c >> 4) & 0xF];
+                buf[pos++] = HEX[c & 0xF];
+        }
+        return pos;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = size + additional;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.logbull.internal.status;
+
+/**
+ * Kinds of internal problems, each rate limited separately.
+ */
+public enum StatusCategory {
+    QUEUE_FULL("log queue full"),
+    SEND_FAILED("failed batch send"),
+    REJECTED_LOGS("rejected logs"),
+    FORMAT_FAILED("log formatting failure"),
+    INVALID_LOG("invalid log"),
+    SUPPLIER_FAILED("log supplier failure"),
+    INTERNAL("internal error");
+
+    private final String description;
+
+    StatusCategory(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
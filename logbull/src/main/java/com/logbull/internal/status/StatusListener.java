@@ -0,0 +1,15 @@
+package com.logbull.internal.status;
+
+/**
+ * Receives internal status messages that passed rate limiting.
+ */
+@FunctionalInterface
+public interface StatusListener {
+
+    /**
+     * Prints messages to {@code System.err} with a {@code "LogBull: "} prefix.
+     */
+    StatusListener STANDARD_ERROR = (category, message) -> System.err.println("LogBull: " + message);
+
+    void onStatus(StatusCategory category, String message);
+}
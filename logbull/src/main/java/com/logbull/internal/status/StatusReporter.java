@@ -0,0 +1,166 @@
+package com.logbull.internal.status;
+
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Internal status channel. Each category reports its first few messages per
+ * window; further ones are only counted and summarized when the window
+ * rolls over, so failure reporting has bounded cost under load.
+ * <p>
+ * A sender's reporter is shared by every logger and appender using the
+ * sender, so each of them adds its own listener and removes it when it
+ * stops. Messages go to all listeners, or to {@code System.err} while there
+ * are none.
+ */
+public class StatusReporter {
+    static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    static final int MAX_PER_WINDOW = 3;
+
+    private final LongSupplier clock;
+    private final long windowNanos;
+    private final int maxPerWindow;
+    private final Window[] windows;
+    private final CopyOnWriteArrayList<StatusListener> listeners = new CopyOnWriteArrayList<>();
+
+    public StatusReporter() {
+        this(System::nanoTime, WINDOW_NANOS, MAX_PER_WINDOW);
+    }
+
+    StatusReporter(LongSupplier clock, long windowNanos, int maxPerWindow) {
+        this.clock = clock;
+        this.windowNanos = windowNanos;
+        this.maxPerWindow = maxPerWindow;
+        this.windows = new Window[StatusCategory.values().length];
+        long now = clock.getAsLong();
+        for (int i = 0; i < windows.length; i++) {
+            windows[i] = new Window(now);
+        }
+    }
+
+    /**
+     * Adds a listener receiving all further messages.
+     */
+    public void addListener(StatusListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener cannot be null"));
+    }
+
+    /**
+     * Removes a listener; messages go back to {@code System.err} once the
+     * last one is removed.
+     */
+    public void removeListener(StatusListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void report(StatusCategory category, String message) {
+        if (acquire(category)) {
+            emit(category, message);
+        }
+    }
+
+    /**
+     * Reports a message followed by the cause's message. The text is only
+     * built if the report is not suppressed.
+     */
+    public void report(StatusCategory category, String message, Throwable cause) {
+        if (acquire(category)) {
+            emit(category, message + ": " + cause.getMessage());
+        }
+    }
+
+    /**
+     * Reports a message that is expensive to build, the supplier is only
+     * called if the report is not suppressed.
+     */
+    public void report(StatusCategory category, Supplier<String> message) {
+        if (acquire(category)) {
+            emit(category, message.get());
+        }
+    }
+
+    /**
+     * Emits summaries for categories whose window has elapsed. Called
+     * periodically so suppressed reports are summarized even if no new
+     * report arrives.
+     */
+    public void emitSummaries() {
+        long now = clock.getAsLong();
+        for (StatusCategory category : StatusCategory.values()) {
+            Window window = windows[category.ordinal()];
+            if (now - window.start >= windowNanos) {
+                roll(category, window, now, false);
+            }
+        }
+    }
+
+    /**
+     * Emits summaries for all categories with suppressed reports.
+     */
+    public void emitAllSummaries() {
+        long now = clock.getAsLong();
+        for (StatusCategory category : StatusCategory.values()) {
+            roll(category, windows[category.ordinal()], now, true);
+        }
+    }
+
+    private boolean acquire(StatusCategory category) {
+        Window window = windows[category.ordinal()];
+        long now = clock.getAsLong();
+        if (now - window.start >= windowNanos) {
+            roll(category, window, now, false);
+        }
+        // Read first so suppressed reports do not contend on the counter
+        if (window.reported.get() < maxPerWindow && window.reported.incrementAndGet() <= maxPerWindow) {
+            return true;
+        }
+        window.suppressed.increment();
+        return false;
+    }
+
+    private void roll(StatusCategory category, Window window, long now, boolean force) {
+        long suppressed;
+        synchronized (window) {
+            if (!force && now - window.start < windowNanos) {
+                // Another thread rolled the window over first
+                return;
+            }
+            window.start = now;
+            window.reported.set(0);
+            suppressed = window.suppressed.sumThenReset();
+        }
+        if (suppressed > 0) {
+            emit(category, suppressed + " more " + category.getDescription() + " reports suppressed");
+        }
+    }
+
+    private void emit(StatusCategory category, String message) {
+        boolean delivered = false;
+        for (StatusListener listener : listeners) {
+            delivered = true;
+            try {
+                listener.onStatus(category, message);
+            } catch (RuntimeException e) {
+                StatusListener.STANDARD_ERROR.onStatus(category, message);
+            }
+        }
+        if (!delivered) {
+            StatusListener.STANDARD_ERROR.onStatus(category, message);
+        }
+    }
+
+    private static final class Window {
+        volatile long start;
+        final AtomicInteger reported = new AtomicInteger();
+        final LongAdder suppressed = new LongAdder();
+
+        Window(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -16,19 +16,63 @@ public class TimestampGenerator {
     private final Object lock = new Object();
 
     public String generateUniqueTimestamp() {
-        synchronized (lock) {
-            long currentNanos = System.currentTimeMillis() * 1_000_000 + System.nanoTime() % 1_000_000;
+        return format(uniqueNanos());
+    }
+
+    /**
+     * Generates a unique timestamp based on the time an event was created
+     * rather than the current time.
+     *
+     * @param instant event time
+     * @return unique timestamp, at or after the event time
+     */
+    public String generateUniqueTimestamp(Instant instant) {
+        return format(uniqueNanos(instant));
+    }
+
+    /**
+     * Returns a unique timestamp for the current time, in nanoseconds since
+     * the epoch, to be formatted later with {@link #format(long)}.
+     */
+    public long uniqueNanos() {
+        return uniqueNanos(System.currentTimeMillis() * 1_000_000 + System.nanoTime() % 1_000_000);
+    }
 
+    /**
+     * Returns a unique timestamp for the given event time, in nanoseconds
+     * since the epoch. Deferred events call this on the logging thread, so
+     * that the values increase in logging order rather than in the order
+     * sender threads happen to format them.
+     *
+     * @param instant event time
+     * @return unique timestamp, at or after the event time
+     */
+    public long uniqueNanos(Instant instant) {
+        return uniqueNanos(instant.getEpochSecond(), instant.getNano());
+    }
+
+    /**
+     * Like {@link #uniqueNanos(Instant)}, for callers that must not allocate.
+     */
+    public long uniqueNanos(long epochSecond, int nanoOfSecond) {
+        return uniqueNanos(epochSecond * 1_000_000_000 + nanoOfSecond);
+    }
+
+    private long uniqueNanos(long currentNanos) {
+        synchronized (lock) {
             if (currentNanos <= lastTimestampNanos) {
                 currentNanos = lastTimestampNanos + 1;
             }
 
             lastTimestampNanos = currentNanos;
-            return formatTimestamp(currentNanos);
         }
+        return currentNanos;
     }
 
-    private String formatTimestamp(long timestampNanos) {
+    /**
+     * Formats a timestamp returned by one of the {@code uniqueNanos} methods.
+     */
+    public static String format(long timestampNanos) {
         long seconds = timestampNanos / 1_000_000_000;
         long nanos = timestampNanos % 1_000_000_000;
         Instant instant = Instant.ofEpochSecond(seconds, nanos);
@@ -0,0 +1,27 @@
+package com.logbull.internal.validation;
+
+/**
+ * Outcome of a non-throwing log entry validation.
+ */
+public enum ValidationResult {
+    VALID("valid"),
+    EMPTY_MESSAGE("log message cannot be empty"),
+    MESSAGE_TOO_LONG("log message too long"),
+    TOO_MANY_FIELDS("too many fields"),
+    EMPTY_FIELD_KEY("field key cannot be empty"),
+    FIELD_KEY_TOO_LONG("field key too long");
+
+    private final String description;
+
+    ValidationResult(String description) {
+        this.description = description;
+    }
+
+    public boolean isValid() {
+        return this == VALID;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -4,7 +4,12 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 /**
@@ -17,6 +22,19 @@ public class Validator {
     private static final int MAX_MESSAGE_LENGTH = 10_000;
     private static final int MAX_FIELDS_COUNT = 100;
     private static final int MAX_FIELD_KEY_LENGTH = 100;
+    private static final int MAX_SANITIZED_KEYS = 1_024;
+    private static final String DROPPED_KEY = "";
+
+    // Sanitized replacements for invalid keys already seen, DROPPED_KEY for
+    // keys that are dropped entirely
+    private final Map<String, String> sanitizedKeys = new ConcurrentHashMap<>();
+    private final Map<ValidationResult, LongAdder> invalidCounts = new EnumMap<>(ValidationResult.class);
+
+    public Validator() {
+        for (ValidationResult result : ValidationResult.values()) {
+            invalidCounts.put(result, new LongAdder());
+        }
+    }
 
     public void validateProjectId(String projectId) {
         if (projectId == null || projectId.trim().isEmpty()) {
@@ -76,11 +94,12 @@ public class Validator {
     }
 
     public void validateLogMessage(String message) {
-        if (message == null || message.trim().isEmpty()) {
+        ValidationResult result = checkLogMessage(message);
+        if (result == ValidationResult.EMPTY_MESSAGE) {
             throw new IllegalArgumentException("log message cannot be empty");
         }
 
-        if (message.length() > MAX_MESSAGE_LENGTH) {
+        if (result == ValidationResult.MESSAGE_TOO_LONG) {
             throw new IllegalArgumentException(
                     String.format(
                             "log message too long (%d chars). Maximum allowed: %d",
@@ -94,26 +113,160 @@ public class Validator {
             return;
         }
 
-        if (fields.size() > MAX_FIELDS_COUNT) {
+        validateFieldsCount(fields.size());
+
+        for (String key : fields.keySet()) {
+            validateFieldKey(key);
+        }
+    }
+
+    public void validateFieldsCount(int count) {
+        if (checkFieldsCount(count) != ValidationResult.VALID) {
             throw new IllegalArgumentException(
                     String.format(
                             "too many fields (%d). Maximum allowed: %d",
-                            fields.size(),
+                            count,
                             MAX_FIELDS_COUNT));
         }
+    }
 
-        for (String key : fields.keySet()) {
-            if (key == null || key.trim().isEmpty()) {
-                throw new IllegalArgumentException("field key cannot be empty");
+    public void validateFieldKey(String key) {
+        ValidationResult result = checkFieldKey(key);
+        if (result == ValidationResult.EMPTY_FIELD_KEY) {
+            throw new IllegalArgumentException("field key cannot be empty");
+        }
+
+        if (result == ValidationResult.FIELD_KEY_TOO_LONG) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "field key too long (%d chars). Maximum: %d",
+                            key.length(),
+                            MAX_FIELD_KEY_LENGTH));
+        }
+    }
+
+    public ValidationResult checkLogMessage(String message) {
+        if (message == null || message.isBlank()) {
+            return ValidationResult.EMPTY_MESSAGE;
+        }
+
+        if (message.length() > MAX_MESSAGE_LENGTH) {
+            return ValidationResult.MESSAGE_TOO_LONG;
+        }
+        return ValidationResult.VALID;
+    }
+
+    public ValidationResult checkFieldsCount(int count) {
+        return count > MAX_FIELDS_COUNT ? ValidationResult.TOO_MANY_FIELDS : ValidationResult.VALID;
+    }
+
+    public ValidationResult checkFieldKey(String key) {
+        if (key == null || key.isBlank()) {
+            return ValidationResult.EMPTY_FIELD_KEY;
+        }
+
+        if (key.length() > MAX_FIELD_KEY_LENGTH) {
+            return ValidationResult.FIELD_KEY_TOO_LONG;
+        }
+        return ValidationResult.VALID;
+    }
+
+    public int getMaxFieldsCount() {
+        return MAX_FIELDS_COUNT;
+    }
+
+    /**
+     * Returns a usable replacement for an invalid field key: long keys are
+     * truncated, empty keys are dropped. Replacements are cached, so a bad
+     * key logged repeatedly is only sanitized once.
+     *
+     * @param key field key that failed {@link #checkFieldKey(String)}
+     * @return sanitized key, or null if the field should be dropped
+     */
+    public String sanitizeFieldKey(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        String sanitized = sanitizedKeys.get(key);
+        if (sanitized == null) {
+            String trimmed = key.trim();
+            if (trimmed.isEmpty()) {
+                sanitized = DROPPED_KEY;
+            } else if (trimmed.length() > MAX_FIELD_KEY_LENGTH) {
+                sanitized = trimmed.substring(0, MAX_FIELD_KEY_LENGTH);
+            } else {
+                sanitized = trimmed;
             }
+            if (sanitizedKeys.size() < MAX_SANITIZED_KEYS) {
+                sanitizedKeys.put(key, sanitized);
+            }
+        }
+        return sanitized.isEmpty() ? null : sanitized;
+    }
 
-            if (key.length() > MAX_FIELD_KEY_LENGTH) {
-                throw new IllegalArgumentException(
-                        String.format(
-                                "field key too long (%d chars). Maximum: %d",
-                                key.length(),
-                                MAX_FIELD_KEY_LENGTH));
+    /**
+     * Sanitizes log fields without throwing. Invalid keys are truncated or
+     * dropped and fields beyond the maximum count are dropped. Valid fields
+     * are returned as-is without copying.
+     *
+     * @param fields    log fields, may be null
+     * @param onInvalid called once for every problem found
+     * @return the given fields if valid, otherwise a sanitized copy
+     */
+    public Map<String, Object> sanitizeLogFields(Map<String, Object> fields,
+            Consumer<ValidationResult> onInvalid) {
+        if (fields == null || isValidFields(fields)) {
+            return fields;
+        }
+
+        Map<String, Object> sanitized = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : fields.entrySet()) {
+            String key = entry.getKey();
+            ValidationResult result = checkFieldKey(key);
+            if (!result.isValid()) {
+                onInvalid.accept(result);
+                key = sanitizeFieldKey(key);
+                if (key == null) {
+                    continue;
+                }
+            }
+
+            if (sanitized.size() >= MAX_FIELDS_COUNT && !sanitized.containsKey(key)) {
+                onInvalid.accept(ValidationResult.TOO_MANY_FIELDS);
+                break;
+            }
+            sanitized.put(key, entry.getValue());
+        }
+        return sanitized;
+    }
+
+    /**
+     * Counts an invalid log entry.
+     *
+     * @param result validation problem
+     * @return true if this is the first problem of this kind
+     */
+    public boolean recordInvalid(ValidationResult result) {
+        LongAdder counter = invalidCounts.get(result);
+        boolean first = counter.sum() == 0;
+        counter.increment();
+        return first;
+    }
+
+    public long getInvalidCount(ValidationResult result) {
+        return invalidCounts.get(result).sum();
+    }
+
+    private boolean isValidFields(Map<String, Object> fields) {
+        if (fields.size() > MAX_FIELDS_COUNT) {
+            return false;
+        }
+        for (String key : fields.keySet()) {
+            if (checkFieldKey(key) != ValidationResult.VALID) {
+                return false;
             }
         }
+        return true;
     }
 }
@@ -0,0 +1,108 @@
+package com.logbull.jul;
+
+import com.logbull.core.LogEntry;
+import com.logbull.core.LogLevel;
+import com.logbull.internal.formatting.FormattedMessage;
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.sender.PendingLog;
+import com.logbull.internal.serialization.EncodedFields;
+import com.logbull.internal.timestamp.TimestampGenerator;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.logging.LogRecord;
+
+/**
+ * JUL record queued by reference and turned into a {@link LogEntry} on a
+ * sender thread.
+ * <p>
+ * Once published, a record belongs to the logging framework and is no longer
+ * changed by the caller, so only the thread name and the unique timestamp
+ * are captured up front, the latter so that timestamps follow logging order
+ * even though sender threads format batches concurrently. Localization and
+ * {@link MessageFormat} rendering are deferred.
+ */
+final class DeferredJulRecord implements PendingLog {
+    private final LogRecord record;
+    private final LogLevel level;
+    private final String threadName;
+    private final long timestampNanos;
+    private final Formatter formatter;
+
+    private LogEntry entry;
+
+    DeferredJulRecord(LogRecord record, LogLevel level, String threadName, Formatter formatter,
+            TimestampGenerator timestampGenerator) {
+        this.record = record;
+        this.level = level;
+        this.threadName = threadName;
+        this.timestampNanos = record.getInstant() != null
+                ? timestampGenerator.uniqueNanos(record.getInstant())
+                : timestampGenerator.uniqueNanos();
+        this.formatter = formatter;
+    }
+
+    @Override
+    public LogEntry toLogEntry() {
+        if (entry == null) {
+            FormattedMessage message = formatter.format(formatMessage());
+
+            Map<String, Object> fields = new HashMap<>();
+            fields.put("logger", record.getLoggerName());
+            if (threadName != null) {
+                fields.put("thread", threadName);
+            }
+
+            String timestamp = TimestampGenerator.format(timestampNanos);
+
+            entry = new LogEntry(
+                    level.toString(),
+                    message,
+                    timestamp,
+                    fields,
+                    EncodedFields.EMPTY,
+                    EncodedFields.EMPTY,
+                    record.getThrown());
+        }
+        return entry;
+    }
+
+    /**
+     * Renders the message the way {@link java.util.logging.Formatter#formatMessage}
+     * does: localized through the record's resource bundle, then formatted
+     * with {@link MessageFormat} if it has parameter placeholders.
+     */
+    private String formatMessage() {
+        String message = record.getMessage();
+        if (message == null) {
+            return "";
+        }
+
+        ResourceBundle bundle = record.getResourceBundle();
+        if (bundle != null) {
+            try {
+                message = bundle.getString(message);
+            } catch (MissingResourceException e) {
+                // Use the key itself as the message
+            }
+        }
+
+        Object[] parameters = record.getParameters();
+        if (parameters == null || parameters.length == 0) {
+            return message;
+        }
+
+        try {
+            if (message.contains("{0") || message.contains("{1")
+                    || message.contains("{2") || message.contains("{3")) {
+                return MessageFormat.format(message, parameters);
+            }
+            return message;
+        } catch (IllegalArgumentException e) {
+            return message;
+        }
+    }
+}
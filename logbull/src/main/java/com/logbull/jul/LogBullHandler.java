@@ -0,0 +1,180 @@
+package com.logbull.jul;
+
+import com.logbull.Config;
+import com.logbull.core.LogLevel;
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.sender.LogSender;
+import com.logbull.internal.sender.LogSenderRegistry;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import com.logbull.internal.validation.Validator;
+
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * {@code java.util.logging} handler that sends logs to LogBull server.
+ * <p>
+ * Records are queued as they are and their messages are rendered on the
+ * sender thread, so logging through JUL costs about as much as a direct
+ * {@link com.logbull.LogBullLogger} call. When created by the
+ * {@link LogManager}, the handler reads its settings from the logging
+ * properties:
+ *
+ * <pre>
+ * handlers = com.logbull.jul.LogBullHandler
+ * com.logbull.jul.LogBullHandler.projectId = 12345678-1234-1234-1234-123456789012
+ * com.logbull.jul.LogBullHandler.host = http://localhost:4005
+ * com.logbull.jul.LogBullHandler.apiKey = your-api-key
+ * com.logbull.jul.LogBullHandler.logLevel = INFO
+ * </pre>
+ */
+public class LogBullHandler extends Handler {
+    private final LogSenderRegistry.Lease senderLease;
+    private final LogSender sender;
+    private final int minPriority;
+    private final Formatter formatter;
+    private final TimestampGenerator timestampGenerator;
+
+    /**
+     * Creates a handler configured from the {@link LogManager} properties.
+     * If the configuration is invalid, the error is reported to the
+     * handler's {@link ErrorManager} and the handler discards all records.
+     */
+    public LogBullHandler() {
+        this(configFromLogManager());
+    }
+
+    /**
+     * Creates a handler with the given configuration.
+     *
+     * @param config LogBull configuration
+     * @throws IllegalArgumentException if configuration is invalid
+     */
+    public LogBullHandler(Config config) {
+        this.formatter = new Formatter();
+        this.timestampGenerator = new TimestampGenerator();
+
+        if (config == null) {
+            this.senderLease = null;
+            this.sender = null;
+            this.minPriority = Integer.MAX_VALUE;
+            return;
+        }
+
+        Validator validator = new Validator();
+        validator.validateProjectId(config.getProjectId());
+        validator.validateHostUrl(config.getHost());
+        validator.validateApiKey(config.getApiKey());
+
+        this.senderLease = LogSenderRegistry.acquire(config);
+        this.sender = senderLease.getSender();
+        this.minPriority = config.getLogLevel().getPriority();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (sender == null || !isLoggable(record)) {
+            return;
+        }
+
+        try {
+            LogLevel level = convertJulLevel(record.getLevel());
+            if (level.getPriority() < minPriority) {
+                return;
+            }
+
+            // Message rendering happens on the sender thread
+            sender.addLog(new DeferredJulRecord(record, level, Thread.currentThread().getName(),
+                    formatter, timestampGenerator));
+
+        } catch (Exception e) {
+            reportError("Failed to publish log to LogBull: " + e.getMessage(), e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (sender != null) {
+            sender.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (senderLease != null) {
+            senderLease.release();
+        }
+    }
+
+    static LogLevel convertJulLevel(Level level) {
+        if (level == null) {
+            return LogLevel.INFO;
+        }
+
+        int value = level.intValue();
+        if (value > Level.SEVERE.intValue()) {
+            return LogLevel.CRITICAL;
+        } else if (value >= Level.SEVERE.intValue()) {
+            return LogLevel.ERROR;
+        } else if (value >= Level.WARNING.intValue()) {
+            return LogLevel.WARNING;
+        } else if (value >= Level.INFO.intValue()) {
+            return LogLevel.INFO;
+        }
+        return LogLevel.DEBUG;
+    }
+
+    private static Config configFromLogManager() {
+        LogManager manager = LogManager.getLogManager();
+        String prefix = LogBullHandler.class.getName();
+        String projectId = manager.getProperty(prefix + ".projectId");
+        String host = manager.getProperty(prefix + ".host");
+        String apiKey = manager.getProperty(prefix + ".apiKey");
+        String logLevel = manager.getProperty(prefix + ".logLevel");
+
+        if (projectId == null || projectId.trim().isEmpty()) {
+            new ErrorManager().error("LogBull projectId is required", null, ErrorManager.OPEN_FAILURE);
+            return null;
+        }
+
+        if (host == null || host.trim().isEmpty()) {
+            new ErrorManager().error("LogBull host is required", null, ErrorManager.OPEN_FAILURE);
+            return null;
+        }
+
+        try {
+            Validator validator = new Validator();
+            validator.validateProjectId(projectId);
+            validator.validateHostUrl(host);
+            validator.validateApiKey(apiKey);
+
+            return Config.builder()
+                    .projectId(projectId.trim())
+                    .host(host.trim())
+                    .apiKey(apiKey != null ? apiKey.trim() : null)
+                    .logLevel(parseLogLevel(logLevel))
+                    .build();
+        } catch (Exception e) {
+            new ErrorManager().error("Failed to initialize LogBull handler: " + e.getMessage(), e,
+                    ErrorManager.OPEN_FAILURE);
+            return null;
+        }
+    }
+
+    private static LogLevel parseLogLevel(String level) {
+        if (level == null || level.trim().isEmpty()) {
+            return LogLevel.INFO;
+        }
+
+        try {
+            return LogLevel.valueOf(level.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            new ErrorManager().error("Invalid log level '" + level + "', defaulting to INFO", null,
+                    ErrorManager.GENERIC_FAILURE);
+            return LogLevel.INFO;
+        }
+    }
+}
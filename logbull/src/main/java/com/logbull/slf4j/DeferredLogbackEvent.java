@@ -0,0 +1,104 @@
+package com.logbull.slf4j;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+import com.logbull.core.LogEntry;
+import com.logbull.core.LogLevel;
+import com.logbull.internal.formatting.FormattedMessage;
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.sender.PendingLog;
+import com.logbull.internal.serialization.EncodedFields;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Logback event captured by reference on the application thread and turned
+ * into a {@link LogEntry} on a sender thread.
+ * <p>
+ * Only thread-bound data (thread name, MDC map) and the unique timestamp are
+ * resolved when the event is captured, the latter so that timestamps follow
+ * logging order even though sender threads format batches concurrently.
+ * Message formatting, timestamp formatting and stack trace
+ * rendering are deferred, and fields are encoded straight from the event
+ * into the batch payload. Like any asynchronous appender, message arguments
+ * and key-value pairs are rendered when the batch is sent, so they should not
+ * be mutated after logging.
+ */
+final class DeferredLogbackEvent implements PendingLog {
+    private final LogLevel level;
+    private final String messagePattern;
+    private final Object[] arguments;
+    private final Map<String, String> mdc;
+    private final List<KeyValuePair> keyValuePairs;
+    private final List<Marker> markers;
+    private final String loggerName;
+    private final String threadName;
+    private final long timestampNanos;
+    private final IThrowableProxy throwableProxy;
+    private final Formatter formatter;
+
+    private LogEntry entry;
+
+    DeferredLogbackEvent(ILoggingEvent event, LogLevel level, Formatter formatter,
+            TimestampGenerator timestampGenerator) {
+        this.level = level;
+        this.messagePattern = event.getMessage();
+        this.arguments = event.getArgumentArray();
+        // Logback's MDC maps are copy-on-write, keeping the reference is safe
+        this.mdc = event.getMDCPropertyMap();
+        this.keyValuePairs = event.getKeyValuePairs();
+        this.markers = event.getMarkerList();
+        this.loggerName = event.getLoggerName();
+        this.threadName = event.getThreadName();
+        Instant instant = event.getInstant();
+        this.timestampNanos = instant != null
+                ? timestampGenerator.uniqueNanos(instant)
+                : timestampGenerator.uniqueNanos();
+        this.throwableProxy = event.getThrowableProxy();
+        this.formatter = formatter;
+    }
+
+    @Override
+    public LogEntry toLogEntry() {
+        if (entry == null) {
+            FormattedMessage message = formatter.format(formatMessage());
+            Throwable throwable = getThrowable();
+            // Proxies without the original throwable, e.g. from deserialized
+            // events, are rendered by Logback itself
+            LogbackFields fields = new LogbackFields(mdc, keyValuePairs, markers, loggerName, threadName,
+                    throwable == null ? throwableProxy : null);
+            String timestamp = TimestampGenerator.format(timestampNanos);
+
+            entry = new LogEntry(
+                    level.toString(),
+                    message,
+                    timestamp,
+                    null,
+                    EncodedFields.EMPTY,
+                    fields,
+                    throwable);
+        }
+        return entry;
+    }
+
+    private String formatMessage() {
+        if (arguments == null || arguments.length == 0) {
+            return messagePattern;
+        }
+        return MessageFormatter.arrayFormat(messagePattern, arguments).getMessage();
+    }
+
+    private Throwable getThrowable() {
+        if (throwableProxy instanceof ThrowableProxy) {
+            return ((ThrowableProxy) throwableProxy).getThrowable();
+        }
+        return null;
+    }
+}
@@ -4,16 +4,15 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.AppenderBase;
 import com.logbull.Config;
-import com.logbull.core.LogEntry;
 import com.logbull.core.LogLevel;
 import com.logbull.internal.formatting.Formatter;
 import com.logbull.internal.sender.LogSender;
+import com.logbull.internal.sender.LogSenderRegistry;
+import com.logbull.internal.sender.SenderMetrics;
+import com.logbull.internal.status.StatusListener;
 import com.logbull.internal.timestamp.TimestampGenerator;
 import com.logbull.internal.validation.Validator;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Logback appender that sends logs to LogBull server.
  */
@@ -22,9 +21,20 @@ public class LogBullLogbackAppender extends AppenderBase<ILoggingEvent> {
     private String host;
     private String apiKey;
     private String logLevel = "INFO";
-
+    private int batchSize = Config.DEFAULT_BATCH_SIZE;
+    private long batchIntervalMillis = Config.DEFAULT_BATCH_INTERVAL_MILLIS;
+    private int queueCapacity = Config.DEFAULT_QUEUE_CAPACITY;
+    private int minWorkers = Config.DEFAULT_MIN_WORKERS;
+    private int maxWorkers = Config.DEFAULT_MAX_WORKERS;
+    private int httpTimeoutMillis = Config.DEFAULT_HTTP_TIMEOUT_MILLIS;
+    private long shutdownTimeoutMillis = Config.DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+    private int maxRetries = Config.DEFAULT_MAX_RETRIES;
+    private long retryBackoffMillis = Config.DEFAULT_RETRY_BACKOFF_MILLIS;
+
+    private LogSenderRegistry.Lease senderLease;
     private LogSender sender;
-    private LogLevel minLevel;
+    private StatusListener statusListener;
+    private volatile int thresholdLevelInt;
     private Formatter formatter;
     private TimestampGenerator timestampGenerator;
     private Validator validator;
@@ -45,6 +55,50 @@ public class LogBullLogbackAppender extends AppenderBase<ILoggingEvent> {
         this.logLevel = logLevel;
     }
 
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setBatchIntervalMillis(long batchIntervalMillis) {
+        this.batchIntervalMillis = batchIntervalMillis;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public void setMinWorkers(int minWorkers) {
+        this.minWorkers = minWorkers;
+    }
+
+    public void setMaxWorkers(int maxWorkers) {
+        this.maxWorkers = maxWorkers;
+    }
+
+    public void setHttpTimeoutMillis(int httpTimeoutMillis) {
+        this.httpTimeoutMillis = httpTimeoutMillis;
+    }
+
+    public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) {
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public void setRetryBackoffMillis(long retryBackoffMillis) {
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    /**
+     * Returns the counters of the underlying sender, or null if the appender
+     * has not been started.
+     */
+    public SenderMetrics getSenderMetrics() {
+        return sender != null ? sender.getMetrics() : null;
+    }
+
     @Override
     public void start() {
         if (projectId == null || projectId.trim().isEmpty()) {
@@ -68,10 +122,24 @@ public class LogBullLogbackAppender extends AppenderBase<ILoggingEvent> {
                     .host(host.trim())
                     .apiKey(apiKey != null ? apiKey.trim() : null)
                     .logLevel(parseLogLevel(logLevel))
+                    .batchSize(batchSize)
+                    .batchIntervalMillis(batchIntervalMillis)
+                    .queueCapacity(queueCapacity)
+                    .minWorkers(minWorkers)
+                    .maxWorkers(maxWorkers)
+                    .httpTimeoutMillis(httpTimeoutMillis)
+                    .shutdownTimeoutMillis(shutdownTimeoutMillis)
+                    .maxRetries(maxRetries)
+                    .retryBackoffMillis(retryBackoffMillis)
                     .build();
 
-            this.sender = new LogSender(config);
-            this.minLevel = config.getLogLevel();
+            this.senderLease = LogSenderRegistry.acquire(config);
+            this.sender = senderLease.getSender();
+            // Report sender problems through the Logback status manager, the
+            // sender may be shared with other appenders and loggers
+            this.statusListener = (category, message) -> addError(message);
+            sender.getStatusReporter().addListener(statusListener);
+            this.thresholdLevelInt = LogBullTurboFilter.toLogbackThreshold(config.getLogLevel());
             this.formatter = new Formatter();
             this.timestampGenerator = new TimestampGenerator();
 
@@ -81,10 +149,68 @@ public class LogBullLogbackAppender extends AppenderBase<ILoggingEvent> {
         }
     }
 
+    /**
+     * Switches the level and sender settings of the running appender,
+     * without pausing concurrent appends or dropping queued logs. The
+     * settings are kept if the appender is restarted.
+     *
+     * @param config configuration to switch to
+     * @throws IllegalStateException if the appender is not started, or its
+     *         sender is shared with another appender or logger created from
+     *         an equal configuration
+     * @throws IllegalArgumentException if the project, host, API key or
+     *         queue capacity differ, which need a restart
+     */
+    public void reconfigure(Config config) {
+        checkReconfigurable(config);
+        senderLease.reconfigure(config);
+
+        this.logLevel = config.getLogLevel().name();
+        this.batchSize = config.getBatchSize();
+        this.batchIntervalMillis = config.getBatchIntervalMillis();
+        this.minWorkers = config.getMinWorkers();
+        this.maxWorkers = config.getMaxWorkers();
+        this.httpTimeoutMillis = config.getHttpTimeoutMillis();
+        this.shutdownTimeoutMillis = config.getShutdownTimeoutMillis();
+        this.maxRetries = config.getMaxRetries();
+        this.retryBackoffMillis = config.getRetryBackoffMillis();
+        this.thresholdLevelInt = LogBullTurboFilter.toLogbackThreshold(config.getLogLevel());
+    }
+
+    /**
+     * Checks that {@link #reconfigure(Config)} would accept the given
+     * configuration, without changing anything.
+     *
+     * @param config configuration to check
+     * @throws IllegalStateException if the appender is not started, or its
+     *         sender is shared with another appender or logger created from
+     *         an equal configuration
+     * @throws IllegalArgumentException if the project, host, API key or
+     *         queue capacity differ, which need a restart
+     */
+    public void checkReconfigurable(Config config) {
+        if (!isStarted()) {
+            throw new IllegalStateException("LogBull appender is not started");
+        }
+        senderLease.checkReconfigurable(config);
+    }
+
+    /**
+     * Immediately sends queued logs to LogBull server.
+     *
+     * @return true if every queued log was handed to a worker, false if logs
+     *         stay queued because every worker is busy or the appender is
+     *         not started
+     */
+    public boolean flush() {
+        return sender != null && sender.flush();
+    }
+
     @Override
     public void stop() {
-        if (sender != null) {
-            sender.shutdown();
+        if (senderLease != null) {
+            senderLease.release();
+            sender.getStatusReporter().removeListener(statusListener);
         }
         super.stop();
     }
@@ -96,64 +222,22 @@ public class LogBullLogbackAppender extends AppenderBase<ILoggingEvent> {
         }
 
         try {
-            LogLevel level = convertLogbackLevel(eventObject.getLevel());
-
-            if (level.getPriority() < minLevel.getPriority()) {
+            // Compare Logback level ints, the LogBull level is only needed
+            // for events that are kept
+            Level eventLevel = eventObject.getLevel();
+            if (eventLevel != null && eventLevel.levelInt < thresholdLevelInt) {
                 return;
             }
+            LogLevel level = convertLogbackLevel(eventLevel);
 
-            String message = eventObject.getFormattedMessage();
-            Map<String, Object> fields = extractFields(eventObject);
-
-            String formattedMessage = formatter.formatMessage(message);
-            Map<String, Object> ensuredFields = formatter.ensureFields(fields);
-            String timestamp = timestampGenerator.generateUniqueTimestamp();
-
-            LogEntry entry = new LogEntry(
-                    level.toString(),
-                    formattedMessage,
-                    timestamp,
-                    ensuredFields);
-
-            sender.addLog(entry);
+            // Formatting and field extraction happen on the sender thread
+            sender.addLog(new DeferredLogbackEvent(eventObject, level, formatter, timestampGenerator));
 
         } catch (Exception e) {
             addError("Failed to append log to LogBull: " + e.getMessage(), e);
         }
     }
 
-    private Map<String, Object> extractFields(ILoggingEvent event) {
-        Map<String, Object> fields = new HashMap<>();
-
-        // Add MDC properties
-        if (event.getMDCPropertyMap() != null) {
-            fields.putAll(event.getMDCPropertyMap());
-        }
-
-        // Add markers
-        if (event.getMarkerList() != null && !event.getMarkerList().isEmpty()) {
-            // If there's only one marker, store it as a string
-            if (event.getMarkerList().size() == 1) {
-                fields.put("marker", event.getMarkerList().get(0).getName());
-            } else {
-                // If there are multiple markers, store them as a list
-                fields.put("marker", event.getMarkerList().stream()
-                        .map(marker -> marker.getName())
-                        .collect(java.util.stream.Collectors.toList()));
-            }
-        }
-
-        // Add logger name
-        fields.put("logger", event.getLoggerName());
-
-        // Add thread name
-        if (event.getThreadName() != null) {
-            fields.put("thread", event.getThreadName());
-        }
-
-        return fields;
-    }
-
     private LogLevel convertLogbackLevel(Level level) {
         if (level == null) {
             return LogLevel.INFO;
@@ -0,0 +1,143 @@
+package com.logbull.slf4j;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.logbull.core.LogLevel;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logback turbo filter that rejects calls LogBull would drop before Logback
+ * builds a logging event for them.
+ * <p>
+ * Calls below the LogBull log level are denied, and calls below WARNING are
+ * kept with probability {@code sampleRate}. A denied call reaches no
+ * appender at all, so only install this filter when LogBull is the only
+ * appender that consumes the affected loggers.
+ *
+ * <pre>
+ * &lt;turboFilter class="com.logbull.slf4j.LogBullTurboFilter"&gt;
+ *     &lt;logLevel&gt;INFO&lt;/logLevel&gt;
+ *     &lt;sampleRate&gt;0.1&lt;/sampleRate&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ */
+public class LogBullTurboFilter extends TurboFilter {
+    private String logLevel = "INFO";
+    private double sampleRate = 1.0;
+
+    // Published as one object, so logging threads never see a half-applied
+    // change; null while the filter is stopped
+    private volatile Settings settings;
+
+    public void setLogLevel(String logLevel) {
+        this.logLevel = logLevel;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void start() {
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            addError("LogBull sampleRate must be between 0.0 and 1.0, got " + sampleRate);
+            return;
+        }
+
+        LogLevel level;
+        try {
+            level = LogLevel.valueOf(logLevel.trim().toUpperCase());
+        } catch (RuntimeException e) {
+            addWarn("Invalid log level '" + logLevel + "', defaulting to INFO");
+            level = LogLevel.INFO;
+        }
+
+        this.settings = new Settings(toLogbackThreshold(level), sampleRate);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        this.settings = null;
+        super.stop();
+    }
+
+    /**
+     * Switches the level and sample rate of the running filter. Concurrent
+     * calls see either the previous or the new settings, never a mix.
+     *
+     * @param level      LogBull level below which calls are denied
+     * @param sampleRate probability of keeping a call below WARNING
+     * @throws IllegalArgumentException if the sample rate is not between 0.0
+     *         and 1.0
+     */
+    public void reconfigure(LogLevel level, double sampleRate) {
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new IllegalArgumentException("sampleRate must be between 0.0 and 1.0, got " + sampleRate);
+        }
+
+        this.logLevel = level.name();
+        this.sampleRate = sampleRate;
+        if (settings != null) {
+            this.settings = new Settings(toLogbackThreshold(level), sampleRate);
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+            Throwable t) {
+        Settings current = settings;
+        if (current == null || level == null) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (level.levelInt < current.thresholdLevelInt) {
+            return FilterReply.DENY;
+        }
+
+        // isXxxEnabled() checks pass no format; only sample the actual call
+        if (current.sampling && format != null && level.levelInt < Level.WARN_INT
+                && ThreadLocalRandom.current().nextDouble() >= current.sampleRate) {
+            return FilterReply.DENY;
+        }
+
+        return FilterReply.NEUTRAL;
+    }
+
+    /**
+     * Returns the lowest Logback level int that maps to a LogBull level at or
+     * above the given one.
+     */
+    static int toLogbackThreshold(LogLevel level) {
+        switch (level) {
+            case DEBUG:
+                // TRACE is sent as DEBUG
+                return Level.TRACE_INT;
+            case INFO:
+                return Level.INFO_INT;
+            case WARNING:
+                return Level.WARN_INT;
+            case ERROR:
+                return Level.ERROR_INT;
+            default:
+                // No Logback level maps to CRITICAL
+                return Level.OFF_INT;
+        }
+    }
+
+    private static final class Settings {
+        private final int thresholdLevelInt;
+        private final double sampleRate;
+        private final boolean sampling;
+
+        private Settings(int thresholdLevelInt, double sampleRate) {
+            this.thresholdLevelInt = thresholdLevelInt;
+            this.sampleRate = sampleRate;
+            this.sampling = sampleRate < 1.0;
+        }
+    }
+}
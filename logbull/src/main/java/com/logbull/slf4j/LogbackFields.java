@@ -0,0 +1,62 @@
+package com.logbull.slf4j;
+
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fields of a Logback event: the {@link Slf4jFields} of the event, followed
+ * by the exception fields of a throwable proxy that has no original
+ * throwable to attach to the entry.
+ */
+final class LogbackFields extends Slf4jFields {
+    private final IThrowableProxy throwableProxy;
+
+    private String stackTrace;
+
+    /**
+     * @param throwableProxy proxy to render into the fields, or null when the
+     *                       exception is attached to the entry instead
+     */
+    LogbackFields(Map<String, String> mdc, List<KeyValuePair> keyValuePairs, List<Marker> markers,
+            String loggerName, String threadName, IThrowableProxy throwableProxy) {
+        super(mdc, keyValuePairs, markers, loggerName, threadName);
+        this.throwableProxy = throwableProxy;
+    }
+
+    @Override
+    protected void visitExtraFields(FieldVisitor visitor) {
+        if (throwableProxy != null) {
+            visitor.field("exception_class", throwableProxy.getClassName());
+            if (throwableProxy.getMessage() != null) {
+                visitor.field("exception_message", throwableProxy.getMessage());
+            }
+            visitor.field("stack_trace", getStackTrace());
+        }
+    }
+
+    @Override
+    protected boolean isExtraKey(String key) {
+        switch (key) {
+            case "exception_class":
+            case "exception_message":
+            case "stack_trace":
+                return throwableProxy != null;
+            default:
+                return false;
+        }
+    }
+
+    private String getStackTrace() {
+        String rendered = stackTrace;
+        if (rendered == null) {
+            rendered = ThrowableProxyUtil.asString(throwableProxy);
+            stackTrace = rendered;
+        }
+        return rendered;
+    }
+}
@@ -0,0 +1,236 @@
+package com.logbull.slf4j;
+
+import com.logbull.internal.serialization.FieldSource;
+import com.logbull.internal.serialization.JsonWriter;
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fields of an SLF4J log call, read straight from the captured MDC map,
+ * key-value pairs and markers when the batch is serialized.
+ * <p>
+ * On duplicate keys the later source wins, in this order: MDC, key-value
+ * pairs, marker, logger, thread, then the fields added by a subclass. Keys
+ * are trimmed and blank keys are skipped. Within the key-value pairs the
+ * last pair with a key wins; among MDC keys that only differ in surrounding
+ * whitespace the exact key wins, otherwise the first one in map order.
+ */
+public class Slf4jFields implements FieldSource {
+    private final Map<String, String> mdc;
+    private final List<KeyValuePair> keyValuePairs;
+    private final List<Marker> markers;
+    private final String loggerName;
+    private final String threadName;
+
+    public Slf4jFields(Map<String, String> mdc, List<KeyValuePair> keyValuePairs, List<Marker> markers,
+            String loggerName, String threadName) {
+        this.mdc = mdc;
+        this.keyValuePairs = keyValuePairs;
+        this.markers = markers;
+        this.loggerName = loggerName;
+        this.threadName = threadName;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        // The logger field is always present
+        return false;
+    }
+
+    @Override
+    public void writeTo(JsonWriter writer) {
+        visit(new FieldVisitor() {
+            private boolean first = true;
+
+            @Override
+            public void field(String key, Object value) {
+                if (!first) {
+                    writer.writeByte(',');
+                }
+                writer.writeName(key);
+                writer.writeValue(value);
+                first = false;
+            }
+
+            @Override
+            public void markers(List<Marker> markers) {
+                if (!first) {
+                    writer.writeByte(',');
+                }
+                writer.writeName("marker");
+                writer.writeByte('[');
+                for (int i = 0; i < markers.size(); i++) {
+                    if (i > 0) {
+                        writer.writeByte(',');
+                    }
+                    writer.writeString(markers.get(i).getName());
+                }
+                writer.writeByte(']');
+                first = false;
+            }
+        });
+    }
+
+    @Override
+    public Map<String, Object> getFields() {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        visit(new FieldVisitor() {
+            @Override
+            public void field(String key, Object value) {
+                fields.put(key, value);
+            }
+
+            @Override
+            public void markers(List<Marker> markers) {
+                List<String> markerNames = new ArrayList<>(markers.size());
+                for (Marker marker : markers) {
+                    markerNames.add(marker.getName());
+                }
+                fields.put("marker", markerNames);
+            }
+        });
+        return Collections.unmodifiableMap(fields);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        if (isReserved(key) || lastKeyValuePair(key) >= 0) {
+            return true;
+        }
+        if (mdc != null) {
+            for (String mdcKey : mdc.keySet()) {
+                if (key.equals(normalizeKey(mdcKey))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Visits the fields a subclass adds after the SLF4J ones. Their keys
+     * must be reported by {@link #isExtraKey(String)}.
+     */
+    protected void visitExtraFields(FieldVisitor visitor) {
+    }
+
+    /**
+     * Returns whether a subclass writes a field with the given key, which
+     * then replaces MDC and key-value fields with the same key.
+     */
+    protected boolean isExtraKey(String key) {
+        return false;
+    }
+
+    private void visit(FieldVisitor visitor) {
+        if (mdc != null) {
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                String key = normalizeKey(entry.getKey());
+                if (key != null && !isReserved(key) && lastKeyValuePair(key) < 0
+                        && isWinningMdcKey(entry.getKey(), key)) {
+                    visitor.field(key, entry.getValue());
+                }
+            }
+        }
+
+        if (keyValuePairs != null) {
+            for (int i = 0; i < keyValuePairs.size(); i++) {
+                KeyValuePair pair = keyValuePairs.get(i);
+                String key = normalizeKey(pair.key);
+                if (key != null && !isReserved(key) && lastKeyValuePair(key) == i) {
+                    visitor.field(key, pair.value);
+                }
+            }
+        }
+
+        if (hasMarkers()) {
+            // A single marker is stored as a string, several as a list
+            if (markers.size() == 1) {
+                visitor.field("marker", markers.get(0).getName());
+            } else {
+                visitor.markers(markers);
+            }
+        }
+
+        visitor.field("logger", loggerName);
+
+        if (threadName != null) {
+            visitor.field("thread", threadName);
+        }
+
+        visitExtraFields(visitor);
+    }
+
+    private boolean hasMarkers() {
+        return markers != null && !markers.isEmpty();
+    }
+
+    private boolean isReserved(String key) {
+        switch (key) {
+            case "logger":
+                return true;
+            case "thread":
+                return threadName != null;
+            case "marker":
+                return hasMarkers();
+            default:
+                return isExtraKey(key);
+        }
+    }
+
+    /**
+     * Picks one of several MDC keys that trim to the same key.
+     */
+    private boolean isWinningMdcKey(String rawKey, String key) {
+        if (rawKey.equals(key)) {
+            return true;
+        }
+        if (mdc.containsKey(key)) {
+            return false;
+        }
+        for (String other : mdc.keySet()) {
+            if (other.equals(rawKey)) {
+                return true;
+            }
+            if (key.equals(normalizeKey(other))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int lastKeyValuePair(String key) {
+        if (keyValuePairs == null) {
+            return -1;
+        }
+        for (int i = keyValuePairs.size() - 1; i >= 0; i--) {
+            if (key.equals(normalizeKey(keyValuePairs.get(i).key))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String normalizeKey(String key) {
+        if (key == null) {
+            return null;
+        }
+        key = key.trim();
+        return key.isEmpty() ? null : key;
+    }
+
+    /**
+     * Receives the fields in the order they are written.
+     */
+    protected interface FieldVisitor {
+        void field(String key, Object value);
+
+        void markers(List<Marker> markers);
+    }
+}
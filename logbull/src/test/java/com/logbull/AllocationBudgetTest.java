@@ -0,0 +1,170 @@
+package com.logbull;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.logbull.core.LogLevel;
+import com.logbull.internal.sender.SenderMetrics;
+import com.logbull.slf4j.LogBullLogbackAppender;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bytes allocated per log call in steady state, checked against budgets
+ * passed as system properties by the {@code allocationTest} Gradle task.
+ */
+@Tag("allocation")
+class AllocationBudgetTest {
+    private static final String PROJECT_ID = "12345678-1234-1234-1234-123456789012";
+    private static final int CALLS_PER_ROUND = 500;
+    private static final int WARMUP_ROUNDS = 40;
+    private static final int MEASURED_ROUNDS = 20;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Map<String, Object> fields = Map.of("order_id", "order_123", "amount", 99.5);
+
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(202, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testLoggerInfo() throws Exception {
+        LogBullLogger logger = logger();
+        try {
+            assertWithinBudget("logger.info", budget("loggerInfo", 1_536),
+                    () -> logger.info("Order processed"), logger::flush, logger.getSenderMetrics());
+        } finally {
+            logger.shutdown();
+        }
+    }
+
+    @Test
+    void testLoggerInfoWithFieldsAndContext() throws Exception {
+        LogBullLogger logger = logger();
+        LogBullLogger contextLogger = logger.withContext(Map.of("session_id", "sess_abc"));
+        try {
+            assertWithinBudget("logger.info with fields", budget("loggerInfoWithFields", 3_072),
+                    () -> contextLogger.info("Order processed", fields), logger::flush,
+                    logger.getSenderMetrics());
+        } finally {
+            logger.shutdown();
+        }
+    }
+
+    @Test
+    void testLoggerEventBuilder() throws Exception {
+        LogBullLogger logger = logger();
+        try {
+            assertWithinBudget("logger.atInfo", budget("loggerEventBuilder", 1_536),
+                    () -> logger.atInfo().field("order_id", "order_123").field("amount", 99.5)
+                            .log("Order processed"),
+                    logger::flush, logger.getSenderMetrics());
+        } finally {
+            logger.shutdown();
+        }
+    }
+
+    @Test
+    void testLoggerDisabledLevel() throws Exception {
+        LogBullLogger logger = logger();
+        try {
+            assertWithinBudget("logger.debug below level", budget("loggerDisabled", 0),
+                    () -> logger.debug("Order processed", fields), logger::flush, logger.getSenderMetrics());
+        } finally {
+            logger.shutdown();
+        }
+    }
+
+    @Test
+    void testLogbackAppend() throws Exception {
+        LoggerContext context = new LoggerContext();
+        LogBullLogbackAppender appender = new LogBullLogbackAppender();
+        appender.setContext(context);
+        appender.setProjectId(PROJECT_ID);
+        appender.setHost(host());
+        appender.start();
+        assertTrue(appender.isStarted());
+
+        // The event is created by Logback, only the appender's share is measured
+        Logger logbackLogger = context.getLogger("com.example.PaymentService");
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logbackLogger, Level.INFO,
+                "Processing order {}", null, new Object[] { "order_123" });
+        try {
+            assertWithinBudget("appender.doAppend", budget("logbackAppend", 256),
+                    () -> appender.doAppend(event), appender::flush, appender.getSenderMetrics());
+        } finally {
+            appender.stop();
+        }
+    }
+
+    /**
+     * Measures the calling thread's allocations in rounds small enough to
+     * fit the queue, draining it between rounds outside of the measurement.
+     */
+    private void assertWithinBudget(String name, long budget, Runnable call, Runnable flush,
+            SenderMetrics metrics) throws InterruptedException {
+        long allocated = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long before = threadMXBean.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < CALLS_PER_ROUND; i++) {
+                call.run();
+            }
+            long after = threadMXBean.getCurrentThreadAllocatedBytes();
+            if (round >= WARMUP_ROUNDS) {
+                allocated += after - before;
+            }
+
+            flush.run();
+            while (metrics.getQueueDepth() > 0) {
+                Thread.sleep(1);
+            }
+        }
+        assertEquals(0, metrics.getDroppedQueueFull(), "rounds must not overflow the queue");
+
+        long perCall = allocated / ((long) MEASURED_ROUNDS * CALLS_PER_ROUND);
+        assertTrue(perCall <= budget,
+                name + " allocates " + perCall + " bytes per call, budget is " + budget);
+    }
+
+    private LogBullLogger logger() {
+        return LogBullLogger.builder()
+                .projectId(PROJECT_ID)
+                .host(host())
+                .logLevel(LogLevel.INFO)
+                .consoleOutput(false)
+                .build();
+    }
+
+    private String host() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private static long budget(String name, long defaultBudget) {
+        return Long.getLong("logbull.allocation.budget." + name, defaultBudget);
+    }
+}
@@ -0,0 +1,86 @@
+package com.logbull;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigTest {
+    private static final String PROJECT_ID = "12345678-1234-1234-1234-123456789012";
+
+    @Test
+    void testSenderDefaults() {
+        Config config = builder().build();
+
+        assertEquals(Config.DEFAULT_BATCH_SIZE, config.getBatchSize());
+        assertEquals(Config.DEFAULT_BATCH_INTERVAL_MILLIS, config.getBatchIntervalMillis());
+        assertEquals(Config.DEFAULT_QUEUE_CAPACITY, config.getQueueCapacity());
+        assertEquals(Config.DEFAULT_MIN_WORKERS, config.getMinWorkers());
+        assertEquals(Config.DEFAULT_MAX_WORKERS, config.getMaxWorkers());
+        assertEquals(Config.DEFAULT_HTTP_TIMEOUT_MILLIS, config.getHttpTimeoutMillis());
+    }
+
+    @Test
+    void testSenderSettings() {
+        Config config = builder()
+                .batchSize(5_000)
+                .batchIntervalMillis(200)
+                .queueCapacity(100_000)
+                .minWorkers(2)
+                .maxWorkers(4)
+                .httpTimeoutMillis(5_000)
+                .build();
+
+        assertEquals(5_000, config.getBatchSize());
+        assertEquals(200, config.getBatchIntervalMillis());
+        assertEquals(100_000, config.getQueueCapacity());
+        assertEquals(2, config.getMinWorkers());
+        assertEquals(4, config.getMaxWorkers());
+        assertEquals(5_000, config.getHttpTimeoutMillis());
+    }
+
+    @Test
+    void testRejectsNonPositiveSettings() {
+        assertThrows(IllegalArgumentException.class, () -> builder().batchSize(0).build());
+        assertThrows(IllegalArgumentException.class, () -> builder().batchIntervalMillis(-1).build());
+        assertThrows(IllegalArgumentException.class, () -> builder().queueCapacity(0).build());
+        assertThrows(IllegalArgumentException.class, () -> builder().minWorkers(0).build());
+        assertThrows(IllegalArgumentException.class, () -> builder().httpTimeoutMillis(0).build());
+        assertThrows(IllegalArgumentException.class, () -> builder().maxRetries(-1).build());
+        assertThrows(IllegalArgumentException.class, () -> builder().retryBackoffMillis(0).build());
+        assertEquals(0, builder().maxRetries(0).build().getMaxRetries());
+    }
+
+    @Test
+    void testRejectsMinWorkersAboveMaxWorkers() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> builder().minWorkers(4).maxWorkers(2).build());
+        assertTrue(e.getMessage().contains("minWorkers"));
+    }
+
+    @Test
+    void testEqualityIncludesSenderSettings() {
+        assertEquals(builder().batchSize(10).build(), builder().batchSize(10).build());
+        assertEquals(builder().batchSize(10).build().hashCode(), builder().batchSize(10).build().hashCode());
+        assertNotEquals(builder().build(), builder().queueCapacity(10).build());
+    }
+
+    @Test
+    void testToBuilderCopiesAllSettings() {
+        Config config = builder()
+                .apiKey("test-api-key")
+                .batchSize(5_000)
+                .maxWorkers(4)
+                .shutdownTimeoutMillis(2_000)
+                .maxRetries(5)
+                .build();
+
+        assertEquals(config, config.toBuilder().build());
+        assertEquals(200, config.toBuilder().batchSize(200).build().getBatchSize());
+    }
+
+    private static Config.Builder builder() {
+        return Config.builder()
+                .projectId(PROJECT_ID)
+                .host("http://localhost:4005");
+    }
+}
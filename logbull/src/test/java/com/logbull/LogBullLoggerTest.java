@@ -4,7 +4,11 @@ import com.logbull.core.LogLevel;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -88,6 +92,140 @@ class LogBullLoggerTest {
         logger.info("User action", fields);
     }
 
+    @Test
+    void testConsoleOutputDisabled() {
+        logger = LogBullLogger.builder()
+                .projectId("12345678-1234-1234-1234-123456789012")
+                .host("http://localhost:4005")
+                .consoleOutput(false)
+                .build();
+
+        // Should not throw exceptions
+        logger.info("info message", Map.of("key", "value"));
+        logger.atError().field("code", 500L).log("error message");
+    }
+
+    @Test
+    void testIsEnabled() {
+        logger = LogBullLogger.builder()
+                .projectId("12345678-1234-1234-1234-123456789012")
+                .host("http://localhost:4005")
+                .logLevel(LogLevel.WARNING)
+                .build();
+
+        assertFalse(logger.isDebugEnabled());
+        assertFalse(logger.isInfoEnabled());
+        assertTrue(logger.isWarningEnabled());
+        assertTrue(logger.isErrorEnabled());
+        assertTrue(logger.isCriticalEnabled());
+        assertTrue(logger.isEnabled(LogLevel.ERROR));
+    }
+
+    @Test
+    void testSupplierNotInvokedWhenLevelDisabled() {
+        logger = LogBullLogger.builder()
+                .projectId("12345678-1234-1234-1234-123456789012")
+                .host("http://localhost:4005")
+                .logLevel(LogLevel.INFO)
+                .build();
+
+        AtomicInteger calls = new AtomicInteger();
+        logger.debug(() -> {
+            calls.incrementAndGet();
+            return "debug message";
+        }, () -> {
+            calls.incrementAndGet();
+            return Map.of("key", "value");
+        });
+        assertEquals(0, calls.get());
+
+        logger.info(() -> {
+            calls.incrementAndGet();
+            return "info message";
+        });
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testEventBuilder() {
+        logger = LogBullLogger.builder()
+                .projectId("12345678-1234-1234-1234-123456789012")
+                .host("http://localhost:4005")
+                .build();
+
+        assertSame(NoOpLogEventBuilder.INSTANCE, logger.atDebug());
+
+        // Should not throw exceptions
+        logger.atInfo()
+                .field("latency_ms", 42L)
+                .field("ratio", 0.5)
+                .field("ok", true)
+                .field("user_id", "12345")
+                .log("Request handled");
+        logger.withContext(Map.of("request_id", "req_1"))
+                .atError()
+                .field("request_id", "req_2")
+                .log(() -> "Request failed");
+    }
+
+    @Test
+    void testEventBuilderReusedAfterDroppedEvent() {
+        logger = LogBullLogger.builder()
+                .projectId("12345678-1234-1234-1234-123456789012")
+                .host("http://localhost:4005")
+                .consoleOutput(false)
+                .build();
+
+        LogEventBuilder reused = logger.atInfo();
+        reused.log("first");
+        assertSame(reused, logger.atInfo());
+
+        // Dropped without log(), e.g. because a field argument threw
+        LogEventBuilder next = logger.atInfo();
+        assertNotSame(reused, next);
+        next.log("second");
+        assertSame(next, logger.atInfo());
+    }
+
+    @Test
+    void testLogWithException() {
+        logger = LogBullLogger.builder()
+                .projectId("12345678-1234-1234-1234-123456789012")
+                .host("http://localhost:4005")
+                .build();
+
+        IllegalStateException exception = new IllegalStateException("boom");
+
+        // Should not throw exceptions
+        logger.debug("Retrying", null, exception);
+        logger.info("Retrying", null, exception);
+        logger.warning("Retrying", null, exception);
+        logger.error("Request failed", Map.of("request_id", "req_1"), exception);
+        logger.critical("Giving up", null, null);
+        // Untyped null still resolves to the fields overload
+        logger.error("Request failed", null);
+        logger.atError()
+                .field("attempt", 3L)
+                .exception(exception)
+                .log("Request failed");
+    }
+
+    @Test
+    void testInvalidLogsAreCounted() {
+        logger = LogBullLogger.builder()
+                .projectId("12345678-1234-1234-1234-123456789012")
+                .host("http://localhost:4005")
+                .build();
+
+        logger.info("");
+        logger.info("   ");
+        logger.info("message", Map.of("", "value"));
+        assertEquals(3, logger.getInvalidLogCount());
+
+        logger.withContext(Map.of("request_id", "req_1")).info("");
+        assertEquals(4, logger.getInvalidLogCount());
+    }
+
     @Test
     void testWithContext() {
         logger = LogBullLogger.builder()
@@ -105,6 +243,28 @@ class LogBullLoggerTest {
         contextLogger.info("Context test");
     }
 
+    @Test
+    void testContextLoggerShutdownKeepsConsoleOutput() {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+        try {
+            logger = LogBullLogger.builder()
+                    .projectId("12345678-1234-1234-1234-123456789012")
+                    .host("http://localhost:4005")
+                    .build();
+
+            logger.withContext(Map.of("request_id", "req_1")).shutdown();
+            logger.info("after context shutdown");
+            logger.shutdown();
+            logger = null;
+        } finally {
+            System.setOut(originalOut);
+        }
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("after context shutdown"));
+    }
+
     @Test
     void testFlush() {
         logger = LogBullLogger.builder()
@@ -129,4 +289,58 @@ class LogBullLoggerTest {
         // Should not throw exception after shutdown
         logger.info("After shutdown");
     }
+
+    @Test
+    void testReconfigureSwitchesLevelOfDerivedLoggers() {
+        logger = LogBullLogger.builder()
+                .projectId("12345678-1234-1234-1234-123456789012")
+                .host("http://localhost:4005")
+                .build();
+        LogBullLogger requestLogger = logger.withContext(Map.of("request_id", "req_1"));
+        assertFalse(requestLogger.isDebugEnabled());
+
+        logger.reconfigure(logger.getConfig().toBuilder().logLevel(LogLevel.DEBUG).batchSize(10).build());
+        assertTrue(requestLogger.isDebugEnabled());
+        assertEquals(10, requestLogger.getConfig().getBatchSize());
+
+        logger.reconfigure(logger.getConfig().toBuilder().logLevel(LogLevel.INFO).build());
+        assertFalse(requestLogger.isDebugEnabled());
+    }
+
+    @Test
+    void testReconfigureRejectsConnectionChanges() {
+        logger = LogBullLogger.builder()
+                .projectId("12345678-1234-1234-1234-123456789012")
+                .host("http://localhost:4005")
+                .build();
+        Config current = logger.getConfig();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> logger.reconfigure(current.toBuilder().host("http://localhost:4006").build()));
+        assertThrows(IllegalArgumentException.class,
+                () -> logger.reconfigure(current.toBuilder().queueCapacity(10).build()));
+        assertEquals(current, logger.getConfig());
+    }
+
+    @Test
+    void testReconfigureRejectsSharedSender() {
+        Config config = Config.builder()
+                .projectId("12345678-1234-1234-1234-123456789012")
+                .host("http://localhost:4005")
+                .batchSize(77)
+                .build();
+        logger = LogBullLogger.create(config);
+        LogBullLogger other = LogBullLogger.create(config);
+        try {
+            assertThrows(IllegalStateException.class,
+                    () -> logger.reconfigure(config.toBuilder().logLevel(LogLevel.DEBUG).build()));
+            assertEquals(config, logger.getConfig());
+            assertEquals(config, other.getConfig());
+        } finally {
+            other.shutdown();
+        }
+
+        logger.reconfigure(config.toBuilder().logLevel(LogLevel.DEBUG).build());
+        assertTrue(logger.isDebugEnabled());
+    }
 }
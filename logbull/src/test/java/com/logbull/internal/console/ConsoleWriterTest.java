@@ -0,0 +1,104 @@
+package com.logbull.internal.console;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsoleWriterTest {
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private PrintStream originalOut;
+    private PrintStream originalErr;
+
+    @BeforeEach
+    void setUp() {
+        originalOut = System.out;
+        originalErr = System.err;
+        System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+        System.setErr(new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+    }
+
+    @Test
+    void testWritesLinesToMatchingStream() {
+        ConsoleWriter writer = new ConsoleWriter();
+        writer.write("info line", false);
+        writer.write("error line", true);
+        writer.shutdown();
+
+        assertEquals("info line" + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+        assertEquals("error line" + System.lineSeparator(), err.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testPreservesOrderWithinStream() {
+        ConsoleWriter writer = new ConsoleWriter();
+        for (int i = 0; i < 1_000; i++) {
+            writer.write("line " + i, false);
+        }
+        writer.shutdown();
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+        assertEquals(1_000 - writer.getDroppedLines(), lines.length);
+        assertEquals("line 0", lines[0]);
+    }
+
+    @Test
+    void testPreservesOrderAcrossStreams() {
+        System.setErr(System.out);
+        ConsoleWriter writer = new ConsoleWriter();
+        for (int i = 0; i < 100; i++) {
+            writer.write("line " + i, i % 3 == 0);
+        }
+        writer.shutdown();
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+        assertEquals(100, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals("line " + i, lines[i]);
+        }
+    }
+
+    @Test
+    void testStartsThreadOnFirstLine() throws Exception {
+        long threadsBefore = countWriterThreads();
+        ConsoleWriter writer = new ConsoleWriter();
+        assertEquals(threadsBefore, countWriterThreads());
+
+        writer.write("first line", false);
+        assertEquals(threadsBefore + 1, countWriterThreads());
+
+        // Parked while idle, and woken up by the next line
+        Thread.sleep(50);
+        writer.write("second line", false);
+        writer.shutdown();
+        assertEquals("first line" + System.lineSeparator() + "second line" + System.lineSeparator(),
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testIgnoresWritesAfterShutdown() {
+        ConsoleWriter writer = new ConsoleWriter();
+        writer.shutdown();
+        writer.write("late line", false);
+
+        assertEquals("", out.toString(StandardCharsets.UTF_8));
+    }
+
+    private static long countWriterThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.isAlive() && thread.getName().equals("LogBull-ConsoleWriter"))
+                .count();
+    }
+}
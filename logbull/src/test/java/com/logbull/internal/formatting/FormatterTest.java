@@ -3,6 +3,7 @@ package com.logbull.internal.formatting;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -37,6 +38,54 @@ class FormatterTest {
         assertEquals("", formatted);
     }
 
+    @Test
+    void testFormatTruncatesAtUtf8ByteBudget() {
+        FormattedMessage formatted = formatter.format("é".repeat(6_000));
+        byte[] encoded = formatted.getText().getBytes(StandardCharsets.UTF_8);
+
+        assertTrue(formatted.isTruncated());
+        assertTrue(encoded.length <= 10_000);
+        assertEquals(encoded.length, formatted.getUtf8Length());
+        assertTrue(formatted.getText().endsWith("..."));
+    }
+
+    @Test
+    void testFormatDoesNotSplitSurrogatePairs() {
+        FormattedMessage formatted = formatter.format("a".repeat(9_996) + "😀😀");
+        String text = formatted.getText();
+
+        assertTrue(formatted.isTruncated());
+        assertEquals("a".repeat(9_996) + "...", text);
+        assertEquals(text.getBytes(StandardCharsets.UTF_8).length, formatted.getUtf8Length());
+    }
+
+    @Test
+    void testFormatDetectsEscaping() {
+        assertFalse(formatter.format("plain message").needsEscaping());
+        assertTrue(formatter.format("quoted \"message\"").needsEscaping());
+        assertTrue(formatter.format("first line\nsecond line").needsEscaping());
+        assertFalse(formatter.format("  trailing newline\n").needsEscaping());
+    }
+
+    @Test
+    void testFormatDetectsPlainAscii() {
+        assertTrue(formatter.format("plain message").isPlainAscii());
+        assertFalse(formatter.format("quoted \"message\"").isPlainAscii());
+        assertFalse(formatter.format("unicode é").isPlainAscii());
+        assertFalse(formatter.format("\uD800abc").isPlainAscii());
+        assertFalse(formatter.format("abc\uDC00").isPlainAscii());
+    }
+
+    @Test
+    void testFormatKeepsShortMessageInstance() {
+        String message = "no whitespace to trim";
+        FormattedMessage formatted = formatter.format(message);
+
+        assertSame(message, formatted.getText());
+        assertFalse(formatted.isTruncated());
+        assertEquals(message.length(), formatted.getUtf8Length());
+    }
+
     @Test
     void testEnsureFields() {
         Map<String, Object> fields = new HashMap<>();
@@ -0,0 +1,103 @@
+package com.logbull.internal.formatting;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThrowableRendererTest {
+    private ThrowableRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        renderer = new ThrowableRenderer();
+    }
+
+    @Test
+    void testRenderMatchesPrintStackTrace() {
+        IllegalStateException exception = new IllegalStateException("outer",
+                new IllegalArgumentException("inner"));
+        exception.addSuppressed(new RuntimeException("suppressed"));
+
+        StringWriter expected = new StringWriter();
+        exception.printStackTrace(new PrintWriter(expected));
+
+        assertEquals(expected.toString().replace(System.lineSeparator(), "\n").trim(),
+                renderer.render(exception));
+    }
+
+    @Test
+    void testCommonFramesElided() {
+        Exception exception = new Exception("outer", new RuntimeException("inner"));
+
+        String rendered = renderer.render(exception);
+
+        assertTrue(rendered.contains("Caused by: java.lang.RuntimeException: inner"));
+        assertTrue(rendered.contains(" more"));
+    }
+
+    @Test
+    void testLongTraceTruncated() {
+        Exception exception = new Exception("deep");
+        exception.setStackTrace(frames(ThrowableRenderer.MAX_FRAMES + 25));
+
+        String rendered = renderer.render(exception);
+
+        assertEquals(ThrowableRenderer.MAX_FRAMES, rendered.split("\tat ", -1).length - 1);
+        assertTrue(rendered.endsWith("\t... 25 frames truncated"));
+    }
+
+    @Test
+    void testCircularCause() {
+        RuntimeException first = new RuntimeException("first");
+        RuntimeException second = new RuntimeException("second", first);
+        first.initCause(second);
+
+        String rendered = renderer.render(first);
+
+        assertTrue(rendered.contains("[CIRCULAR REFERENCE: java.lang.RuntimeException: first]"));
+    }
+
+    @Test
+    void testSameStackRenderedWithOwnMessage() {
+        StackTraceElement[] frames = frames(5);
+        Exception first = new Exception("first");
+        first.setStackTrace(frames);
+        Exception second = new Exception("second");
+        second.setStackTrace(frames);
+
+        String renderedFirst = renderer.render(first);
+        String renderedSecond = renderer.render(second);
+
+        assertTrue(renderedFirst.startsWith("java.lang.Exception: first\n"));
+        assertTrue(renderedSecond.startsWith("java.lang.Exception: second\n"));
+        assertEquals(renderedFirst.substring(renderedFirst.indexOf('\n')),
+                renderedSecond.substring(renderedSecond.indexOf('\n')));
+    }
+
+    @Test
+    void testCacheClearedWhenFull() {
+        ThrowableRenderer.clearCache();
+        int distinctStacks = ThrowableRenderer.MAX_CACHED_BLOCKS + 10;
+        for (int i = 0; i < distinctStacks; i++) {
+            Exception exception = new Exception("failure " + i);
+            exception.setStackTrace(new StackTraceElement[] {
+                    new StackTraceElement("com.example.Service", "call", "Service.java", i + 1)});
+            renderer.render(exception);
+        }
+
+        // Stacks seen after the cache filled up are still cached
+        assertEquals(10, ThrowableRenderer.cachedBlocks());
+    }
+
+    private StackTraceElement[] frames(int count) {
+        StackTraceElement[] frames = new StackTraceElement[count];
+        for (int i = 0; i < count; i++) {
+            frames[i] = new StackTraceElement("com.example.Service", "call" + i, "Service.java", i + 1);
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,191 @@
+package com.logbull.internal.sender;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logbull.core.LogEntry;
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.serialization.EncodedFields;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSerializerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BatchSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new BatchSerializer();
+    }
+
+    @Test
+    void testSerializeEntry() throws Exception {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("user_id", "12345");
+        fields.put("count", 42);
+        fields.put("ratio", 0.5);
+        fields.put("ok", true);
+        fields.put("tags", List.of("a", "b"));
+
+        LogEntry entry = new LogEntry("INFO", "Test message", "2024-01-01T00:00:00.000000000Z", fields);
+        Map<String, Object> log = parseSingleLog(serializer.serialize(List.of(entry)));
+
+        assertEquals("INFO", log.get("level"));
+        assertEquals("Test message", log.get("message"));
+        assertEquals("2024-01-01T00:00:00.000000000Z", log.get("timestamp"));
+        assertEquals(fields, log.get("fields"));
+    }
+
+    @Test
+    void testSerializeFloatsLikeJackson() {
+        List<LogEntry> entries = List.of(
+                new LogEntry("INFO", "message", "ts", Map.of("value", 0.1f)),
+                new LogEntry("INFO", "message", "ts", Map.of("value", 1.0E10f)),
+                new LogEntry("INFO", "message", "ts", Map.of("value", Float.NaN)),
+                new LogEntry("INFO", "message", "ts", Map.of("value", Float.NEGATIVE_INFINITY)));
+
+        String json = new String(serializer.serialize(entries), StandardCharsets.UTF_8);
+
+        assertTrue(json.contains("\"fields\":{\"value\":0.1}"), json);
+        assertTrue(json.contains("\"fields\":{\"value\":1.0E10}"), json);
+        assertTrue(json.contains("\"fields\":{\"value\":\"NaN\"}"), json);
+        assertTrue(json.contains("\"fields\":{\"value\":\"-Infinity\"}"), json);
+    }
+
+    @Test
+    void testSerializeEscapedMessage() throws Exception {
+        String message = "quote \" backslash \\ newline \n control \u0001 unicode é 😀";
+        LogEntry entry = new LogEntry("INFO", message, "ts", null);
+
+        Map<String, Object> log = parseSingleLog(serializer.serialize(List.of(entry)));
+        assertEquals(message, log.get("message"));
+    }
+
+    @Test
+    void testSerializeUnpairedSurrogates() throws Exception {
+        Formatter formatter = new Formatter();
+        LogEntry high = new LogEntry("INFO", formatter.format("\uD800abc"), "ts", null,
+                EncodedFields.EMPTY, EncodedFields.EMPTY, null);
+        LogEntry low = new LogEntry("INFO", formatter.format("abc\uDC00"), "ts", null,
+                EncodedFields.EMPTY, EncodedFields.EMPTY, null);
+
+        byte[] json = serializer.serialize(List.of(high, low));
+        assertEquals(-1, new String(json, "UTF-8").indexOf('\0'), "raw NUL byte in JSON");
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> logs = (List<Map<String, Object>>) objectMapper.readValue(json, Map.class)
+                .get("logs");
+        assertEquals("?abc", logs.get(0).get("message"));
+        assertEquals("abc?", logs.get(1).get("message"));
+    }
+
+    @Test
+    void testSerializeThrowable() throws Exception {
+        IllegalStateException exception = new IllegalStateException("boom");
+        LogEntry entry = new LogEntry("ERROR", new Formatter().format("failed"), "ts", Map.of("count", 1),
+                EncodedFields.EMPTY, EncodedFields.EMPTY, exception);
+
+        Map<String, Object> log = parseSingleLog(serializer.serialize(List.of(entry)));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> fields = (Map<String, Object>) log.get("fields");
+        assertEquals(1, fields.get("count"));
+        assertEquals("java.lang.IllegalStateException", fields.get("exception_class"));
+        assertEquals("boom", fields.get("exception_message"));
+        assertTrue(((String) fields.get("stack_trace")).startsWith("java.lang.IllegalStateException: boom\n\tat "));
+    }
+
+    @Test
+    void testBrokenThrowableDoesNotDropBatch() throws Exception {
+        RuntimeException broken = new RuntimeException() {
+            @Override
+            public String getMessage() {
+                throw new IllegalStateException("broken getMessage");
+            }
+        };
+        Formatter formatter = new Formatter();
+        LogEntry failed = new LogEntry("ERROR", formatter.format("failed"), "ts", null,
+                EncodedFields.EMPTY, EncodedFields.EMPTY, broken);
+        LogEntry next = new LogEntry("INFO", "next", "ts", null);
+
+        Map<?, ?> payload = objectMapper.readValue(serializer.serialize(List.of(failed, next)), Map.class);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> logs = (List<Map<String, Object>>) payload.get("logs");
+        assertEquals(2, logs.size());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> fields = (Map<String, Object>) logs.get(0).get("fields");
+        assertEquals(broken.getClass().getName(), fields.get("exception_class"));
+        assertEquals(broken.getClass().getName(), fields.get("stack_trace"));
+        assertFalse(fields.containsKey("exception_message"));
+        assertEquals("next", logs.get(1).get("message"));
+    }
+
+    @Test
+    void testExceptionFieldsReplaceUserFields() throws Exception {
+        EncodedFields context = EncodedFields.of(Map.of("stack_trace", "from context", "tenant", "acme"));
+        EncodedFields encoded = EncodedFields.of(Map.of("exception_message", "from event", "attempt", 3));
+        LogEntry entry = new LogEntry("ERROR", new Formatter().format("failed"), "ts",
+                Map.of("exception_class", "from fields"), context, encoded, new IllegalStateException("boom"));
+
+        byte[] json = serializer.serialize(List.of(entry));
+        Map<String, Object> log = parseSingleLog(json);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> fields = (Map<String, Object>) log.get("fields");
+        assertEquals("java.lang.IllegalStateException", fields.get("exception_class"));
+        assertEquals("boom", fields.get("exception_message"));
+        assertEquals("acme", fields.get("tenant"));
+        assertEquals(3, fields.get("attempt"));
+        String text = new String(json, "UTF-8");
+        assertEquals(1, countOccurrences(text, "\"exception_class\""));
+        assertEquals(1, countOccurrences(text, "\"exception_message\""));
+        assertEquals(1, countOccurrences(text, "\"stack_trace\""));
+    }
+
+    @Test
+    void testSerializeContextFields() throws Exception {
+        EncodedFields context = EncodedFields.of(Map.of("request_id", "req_1", "tenant", "acme"));
+        LogEntry entry = new LogEntry("INFO", "message", "ts", Map.of("count", 1), context);
+
+        Map<String, Object> log = parseSingleLog(serializer.serialize(List.of(entry)));
+        assertEquals(Map.of("request_id", "req_1", "tenant", "acme", "count", 1), log.get("fields"));
+    }
+
+    @Test
+    void testEntryFieldsOverrideContext() throws Exception {
+        EncodedFields context = EncodedFields.of(Map.of("request_id", "req_1", "tenant", "acme"));
+        LogEntry entry = new LogEntry("INFO", "message", "ts", Map.of("tenant", "other"), context);
+
+        byte[] json = serializer.serialize(List.of(entry));
+        Map<String, Object> log = parseSingleLog(json);
+        assertEquals(Map.of("request_id", "req_1", "tenant", "other"), log.get("fields"));
+        assertEquals(1, countOccurrences(new String(json, "UTF-8"), "\"tenant\""));
+    }
+
+    @Test
+    void testSerializeEmptyBatch() throws Exception {
+        Map<?, ?> payload = objectMapper.readValue(serializer.serialize(List.of()), Map.class);
+        assertEquals(List.of(), payload.get("logs"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> parseSingleLog(byte[] json) throws Exception {
+        Map<String, Object> payload = objectMapper.readValue(json, Map.class);
+        List<Map<String, Object>> logs = (List<Map<String, Object>>) payload.get("logs");
+        assertEquals(1, logs.size());
+        return logs.get(0);
+    }
+
+    private int countOccurrences(String text, String token) {
+        int count = 0;
+        int index = text.indexOf(token);
+        while (index >= 0) {
+            count++;
+            index = text.indexOf(token, index + token.length());
+        }
+        return count;
+    }
+}
@@ -0,0 +1,89 @@
+package com.logbull.internal.sender;
+
+import com.logbull.Config;
+import com.logbull.core.LogEntry;
+import com.sun.net.httpserver.HttpServer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSenderEventsTest {
+    private HttpServer server;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(202, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testEmitsEventsForSentBatch() throws Exception {
+        Path file = tempDir.resolve("logbull.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.logbull.BatchAssembly");
+            recording.enable("com.logbull.BatchSerialization");
+            recording.enable("com.logbull.HttpSend");
+            recording.start();
+
+            LogSender sender = new LogSender(Config.builder()
+                    .projectId("12345678-1234-1234-1234-123456789012")
+                    .host("http://127.0.0.1:" + server.getAddress().getPort())
+                    .build());
+            sender.addLog(new LogEntry("INFO", "First", "2024-01-01T00:00:00.000000000Z", Map.of()));
+            sender.addLog(new LogEntry("INFO", "Second", "2024-01-01T00:00:00.000000000Z", Map.of()));
+            sender.shutdown();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        RecordedEvent assembly = single(events, "com.logbull.BatchAssembly");
+        assertEquals(2, assembly.getInt("queuedLogs"));
+        assertEquals(2, assembly.getInt("formattedLogs"));
+
+        RecordedEvent serialization = single(events, "com.logbull.BatchSerialization");
+        assertEquals(2, serialization.getInt("entries"));
+        assertTrue(serialization.getLong("bytes") > 0);
+
+        RecordedEvent send = single(events, "com.logbull.HttpSend");
+        assertEquals(202, send.getInt("status"));
+        assertTrue(send.getBoolean("success"));
+        assertEquals(serialization.getLong("bytes"), send.getLong("bytes"));
+        assertEquals(1, send.getLong("sequence"));
+        assertEquals(1, send.getInt("attempt"));
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
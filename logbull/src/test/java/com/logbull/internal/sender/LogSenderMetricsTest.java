@@ -0,0 +1,133 @@
+package com.logbull.internal.sender;
+
+import com.logbull.Config;
+import com.logbull.core.LogEntry;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Set;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSenderMetricsTest {
+    private static final String PROJECT_ID = "12345678-1234-1234-1234-123456789012";
+
+    private HttpServer server;
+    private volatile int status = 202;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            byte[] response = "{\"accepted\":1,\"rejected\":0}".getBytes();
+            exchange.sendResponseHeaders(status, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testCountsSentBatchesAndStatuses() {
+        LogSender sender = new LogSender(config());
+        try {
+            assertTrue(sender.addLog(entry()));
+            assertTrue(sender.addLog(entry()));
+            sender.flush();
+            SenderMetrics metrics = sender.getMetrics();
+            awaitCompleted(metrics, 1);
+
+            assertEquals(2, metrics.getEnqueuedLogs());
+            assertEquals(1, metrics.getBatchesSent());
+            assertEquals(2, metrics.getLogsSent());
+            assertTrue(metrics.getBytesSent() > 0);
+            assertEquals(Map.of("202", 1L), metrics.getHttpStatusCounts());
+            assertEquals(0, metrics.getQueueDepth());
+            assertTrue(metrics.getMaxSendLatencyMillis() >= metrics.getAverageSendLatencyMillis());
+        } finally {
+            sender.shutdown();
+        }
+    }
+
+    @Test
+    void testCountsFailedBatches() {
+        status = 500;
+        LogSender sender = new LogSender(config());
+        try {
+            sender.addLog(entry());
+            sender.flush();
+            SenderMetrics metrics = sender.getMetrics();
+            awaitCompleted(metrics, 1);
+
+            assertEquals(0, metrics.getBatchesSent());
+            assertEquals(1, metrics.getBatchesFailed());
+            assertEquals(Map.of("500", 1L), metrics.getHttpStatusCounts());
+        } finally {
+            sender.shutdown();
+        }
+    }
+
+    @Test
+    void testCountsDropsAfterShutdown() {
+        LogSender sender = new LogSender(config());
+        sender.shutdown();
+
+        assertFalse(sender.addLog(entry()));
+        assertEquals(1, sender.getMetrics().getDroppedAfterShutdown());
+        assertEquals(0, sender.getMetrics().getEnqueuedLogs());
+    }
+
+    @Test
+    void testRegistersMBeanUntilShutdown() throws Exception {
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName pattern = new ObjectName("com.logbull:type=LogSender,*");
+        Set<ObjectName> before = mbeanServer.queryNames(pattern, null);
+
+        LogSender sender = new LogSender(config());
+        Set<ObjectName> names = mbeanServer.queryNames(pattern, null);
+        names.removeAll(before);
+        assertEquals(1, names.size());
+        ObjectName name = names.iterator().next();
+        assertEquals(PROJECT_ID, ObjectName.unquote(name.getKeyProperty("project")));
+        assertEquals(10_000, mbeanServer.getAttribute(name, "QueueCapacity"));
+
+        sender.shutdown();
+        assertFalse(mbeanServer.isRegistered(name));
+    }
+
+    private Config config() {
+        // Retries are covered by LogSenderRetryTest
+        return Config.builder()
+                .projectId(PROJECT_ID)
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .maxRetries(0)
+                .build();
+    }
+
+    private static LogEntry entry() {
+        return new LogEntry("INFO", "Test message", "2024-01-01T00:00:00.000000000Z", Map.of());
+    }
+
+    private static void awaitCompleted(SenderMetrics metrics, long batches) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while ((metrics.getBatchesSent() + metrics.getBatchesFailed() < batches
+                || metrics.getInFlightBatches() > 0)
+                && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(0, metrics.getInFlightBatches());
+    }
+}
@@ -0,0 +1,121 @@
+package com.logbull.internal.sender;
+
+import com.logbull.Config;
+import com.logbull.core.LogEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSenderRegistryTest {
+    private static final String PROJECT_ID = "12345678-1234-1234-1234-123456789012";
+
+    @Test
+    void testSharesSenderBetweenEqualConfigs() {
+        LogSenderRegistry.Lease first = LogSenderRegistry.acquire(config(1_000));
+        LogSenderRegistry.Lease second = LogSenderRegistry.acquire(config(1_000));
+        LogSenderRegistry.Lease other = LogSenderRegistry.acquire(config(2_000));
+        try {
+            assertSame(first.getSender(), second.getSender());
+            assertNotSame(first.getSender(), other.getSender());
+        } finally {
+            first.release();
+            second.release();
+            other.release();
+        }
+    }
+
+    @Test
+    void testShutsDownWhenLastLeaseIsReleased() {
+        int sizeBefore = LogSenderRegistry.size();
+        LogSenderRegistry.Lease first = LogSenderRegistry.acquire(config(1_000));
+        LogSenderRegistry.Lease second = LogSenderRegistry.acquire(config(1_000));
+        LogSender sender = first.getSender();
+
+        first.release();
+        assertFalse(first.release());
+        assertTrue(sender.addLog(entry()));
+
+        second.release();
+        assertFalse(sender.addLog(entry()));
+        assertEquals(sizeBefore, LogSenderRegistry.size());
+
+        LogSenderRegistry.Lease next = LogSenderRegistry.acquire(config(1_000));
+        try {
+            assertNotSame(sender, next.getSender());
+        } finally {
+            next.release();
+        }
+    }
+
+    @Test
+    void testRefusesToReconfigureSharedSender() {
+        LogSenderRegistry.Lease first = LogSenderRegistry.acquire(config(3_000));
+        LogSenderRegistry.Lease second = LogSenderRegistry.acquire(config(3_000));
+        try {
+            assertThrows(IllegalStateException.class, () -> first.checkReconfigurable(config(3_001)));
+            assertThrows(IllegalStateException.class, () -> first.reconfigure(config(3_001)));
+            assertEquals(3_000, second.getSender().getConfig().getBatchSize());
+
+            second.release();
+            first.reconfigure(config(3_001));
+            assertEquals(3_001, first.getSender().getConfig().getBatchSize());
+        } finally {
+            first.release();
+            second.release();
+        }
+    }
+
+    @Test
+    void testRegistersReconfiguredSenderUnderNewConfig() {
+        LogSenderRegistry.Lease lease = LogSenderRegistry.acquire(config(4_000));
+        lease.reconfigure(config(4_001));
+        LogSenderRegistry.Lease original = LogSenderRegistry.acquire(config(4_000));
+        LogSenderRegistry.Lease updated = LogSenderRegistry.acquire(config(4_001));
+        try {
+            assertNotSame(lease.getSender(), original.getSender());
+            assertEquals(4_000, original.getSender().getConfig().getBatchSize());
+            assertSame(lease.getSender(), updated.getSender());
+        } finally {
+            lease.release();
+            original.release();
+            updated.release();
+        }
+    }
+
+    @Test
+    void testStartsThreadsOnFirstLog() {
+        LogSenderRegistry.Lease lease = LogSenderRegistry.acquire(config(1_000));
+        try {
+            long schedulersBefore = countThreads("LogBull-Scheduler");
+            lease.getSender().flush();
+            assertEquals(schedulersBefore, countThreads("LogBull-Scheduler"));
+
+            lease.getSender().addLog(entry());
+            assertEquals(schedulersBefore + 1, countThreads("LogBull-Scheduler"));
+        } finally {
+            lease.release(100);
+        }
+    }
+
+    private static long countThreads(String name) {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals(name))
+                .count();
+    }
+
+    private static Config config(int batchSize) {
+        // Unreachable host, nothing is expected to be delivered
+        return Config.builder()
+                .projectId(PROJECT_ID)
+                .host("http://127.0.0.1:9")
+                .batchSize(batchSize)
+                .maxRetries(0)
+                .build();
+    }
+
+    private static LogEntry entry() {
+        return new LogEntry("INFO", "Test message", "2024-01-01T00:00:00.000000000Z", Map.of());
+    }
+}
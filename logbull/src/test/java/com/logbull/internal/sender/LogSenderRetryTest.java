@@ -0,0 +1,221 @@
+package com.logbull.internal.sender;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logbull.Config;
+import com.logbull.core.LogEntry;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSenderRetryTest {
+    private static final String PROJECT_ID = "12345678-1234-1234-1234-123456789012";
+
+    private HttpServer server;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger storedLogs = new AtomicInteger();
+    private final AtomicInteger sequenceChanges = new AtomicInteger();
+    private final Map<String, String> sequenceByBatchId = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> attemptsByBatchId = new ConcurrentHashMap<>();
+    private volatile int failedAttemptsPerBatch;
+    private volatile int failureStatus = 503;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * Stores each batch once, keyed by its ID, and then fails the first
+     * attempts as if the response had been lost.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        String batchId = exchange.getRequestHeaders().getFirst(LogSender.BATCH_ID_HEADER);
+        String sequence = exchange.getRequestHeaders().getFirst(LogSender.BATCH_SEQUENCE_HEADER);
+
+        String previousSequence = sequenceByBatchId.putIfAbsent(batchId, sequence);
+        if (previousSequence == null) {
+            List<?> logs = (List<?>) objectMapper.readValue(body, Map.class).get("logs");
+            storedLogs.addAndGet(logs.size());
+        } else if (!previousSequence.equals(sequence)) {
+            sequenceChanges.incrementAndGet();
+        }
+
+        int attempt = attemptsByBatchId.computeIfAbsent(batchId, id -> new AtomicInteger()).incrementAndGet();
+        int status = attempt <= failedAttemptsPerBatch ? failureStatus : 202;
+        byte[] response = "{\"accepted\":1,\"rejected\":0}".getBytes();
+        exchange.sendResponseHeaders(status, response.length);
+        exchange.getResponseBody().write(response);
+        exchange.close();
+    }
+
+    @Test
+    void testRetriesWithSameBatchIdAndServerDeduplicates() {
+        failedAttemptsPerBatch = 2;
+        LogSender sender = new LogSender(config(3));
+        for (int i = 0; i < 250; i++) {
+            assertTrue(sender.addLog(entry()));
+        }
+        assertTrue(sender.shutdown(5_000));
+
+        SenderMetrics metrics = sender.getMetrics();
+        assertEquals(250, storedLogs.get());
+        assertEquals(250, metrics.getLogsSent());
+        assertEquals(9, requests.get());
+        assertEquals(0, sequenceChanges.get());
+        assertEquals(Set.of("1", "2", "3"), new HashSet<>(sequenceByBatchId.values()));
+        assertEquals(3, metrics.getBatchesSent());
+        assertEquals(0, metrics.getBatchesFailed());
+        assertEquals(6, metrics.getRetries());
+        assertEquals(Map.of("202", 3L, "503", 6L), metrics.getHttpStatusCounts());
+    }
+
+    @Test
+    void testGivesUpAfterMaxRetries() {
+        failedAttemptsPerBatch = Integer.MAX_VALUE;
+        LogSender sender = new LogSender(config(2));
+        sender.addLog(entry());
+        sender.shutdown(5_000);
+
+        SenderMetrics metrics = sender.getMetrics();
+        assertEquals(3, requests.get());
+        assertEquals(1, sequenceByBatchId.size());
+        assertEquals(1, metrics.getBatchesFailed());
+        assertEquals(2, metrics.getRetries());
+        assertEquals(0, metrics.getLogsSent());
+    }
+
+    @Test
+    void testDoesNotRetryClientErrors() {
+        failedAttemptsPerBatch = Integer.MAX_VALUE;
+        failureStatus = 400;
+        LogSender sender = new LogSender(config(3));
+        sender.addLog(entry());
+        sender.shutdown(5_000);
+
+        assertEquals(1, requests.get());
+        assertEquals(0, sender.getMetrics().getRetries());
+        assertEquals(1, sender.getMetrics().getBatchesFailed());
+    }
+
+    @Test
+    void testStopsDrainingWhileWorkersBackOff() {
+        failedAttemptsPerBatch = Integer.MAX_VALUE;
+        LogSender sender = new LogSender(Config.builder()
+                .projectId(PROJECT_ID)
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .batchSize(10)
+                .batchIntervalMillis(60_000)
+                .queueCapacity(20)
+                .minWorkers(1)
+                .maxWorkers(1)
+                .maxRetries(1)
+                .retryBackoffMillis(60_000)
+                .build());
+        try {
+            for (int i = 0; i < 10; i++) {
+                assertTrue(sender.addLog(entry()));
+            }
+            assertTrue(sender.flush());
+            awaitRequests(1);
+
+            // The only worker now waits before its retry, so the queue
+            // keeps the next logs and drops the ones beyond its capacity
+            for (int i = 0; i < 20; i++) {
+                assertTrue(sender.addLog(entry()));
+            }
+            assertFalse(sender.flush());
+            for (int i = 0; i < 5; i++) {
+                assertFalse(sender.addLog(entry()));
+            }
+
+            SenderMetrics metrics = sender.getMetrics();
+            assertEquals(20, metrics.getQueueDepth());
+            assertEquals(5, metrics.getDroppedQueueFull());
+            assertEquals(1, metrics.getInFlightBatches());
+            assertEquals(1, requests.get());
+        } finally {
+            sender.shutdown(100);
+        }
+    }
+
+    @Test
+    void testConcurrentFlushesKeepToMaxWorkers() throws Exception {
+        failedAttemptsPerBatch = Integer.MAX_VALUE;
+        LogSender sender = new LogSender(Config.builder()
+                .projectId(PROJECT_ID)
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .batchSize(1)
+                .batchIntervalMillis(60_000)
+                .minWorkers(1)
+                .maxWorkers(2)
+                .maxRetries(1)
+                .retryBackoffMillis(60_000)
+                .build());
+        try {
+            for (int i = 0; i < 50; i++) {
+                assertTrue(sender.addLog(entry()));
+            }
+            Thread[] flushers = new Thread[8];
+            for (int i = 0; i < flushers.length; i++) {
+                flushers[i] = new Thread(sender::flush);
+                flushers[i].start();
+            }
+            for (Thread flusher : flushers) {
+                flusher.join();
+            }
+            awaitRequests(2);
+
+            SenderMetrics metrics = sender.getMetrics();
+            assertEquals(2, metrics.getInFlightBatches());
+            assertEquals(48, metrics.getQueueDepth());
+            assertFalse(sender.flush());
+        } finally {
+            sender.shutdown(100);
+        }
+    }
+
+    private void awaitRequests(int count) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (requests.get() < count && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(count, requests.get());
+    }
+
+    private Config config(int maxRetries) {
+        return Config.builder()
+                .projectId(PROJECT_ID)
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .batchSize(100)
+                .maxRetries(maxRetries)
+                .retryBackoffMillis(10)
+                .build();
+    }
+
+    private static LogEntry entry() {
+        return new LogEntry("INFO", "Test message", "2024-01-01T00:00:00.000000000Z", Map.of());
+    }
+}
@@ -0,0 +1,130 @@
+package com.logbull.internal.sender;
+
+import com.logbull.Config;
+import com.logbull.core.LogEntry;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSenderShutdownTest {
+    private static final String PROJECT_ID = "12345678-1234-1234-1234-123456789012";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private volatile long responseDelayMillis = 100;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            int concurrent = concurrentRequests.incrementAndGet();
+            maxConcurrentRequests.accumulateAndGet(concurrent, Math::max);
+            try {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(responseDelayMillis);
+                byte[] response = "{\"accepted\":1,\"rejected\":0}".getBytes();
+                exchange.sendResponseHeaders(202, response.length);
+                exchange.getResponseBody().write(response);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrentRequests.decrementAndGet();
+                exchange.close();
+            }
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void testDrainsWholeQueueInParallelBatches() {
+        LogSender sender = new LogSender(config(10_000));
+        for (int i = 0; i < 2_000; i++) {
+            assertTrue(sender.addLog(entry()));
+        }
+
+        long start = System.nanoTime();
+        assertTrue(sender.shutdown(10_000));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        SenderMetrics metrics = sender.getMetrics();
+        assertEquals(2_000, metrics.getLogsSent());
+        assertEquals(20, metrics.getBatchesSent());
+        assertEquals(0, metrics.getQueueDepth());
+        assertTrue(maxConcurrentRequests.get() > 1, "batches were sent one at a time");
+        // 20 sequential requests would take at least 2 seconds
+        assertTrue(elapsedMillis < 2_000, "shutdown took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testStartsWorkersBeyondMinimumUpToMaximum() {
+        LogSender sender = new LogSender(Config.builder()
+                .projectId(PROJECT_ID)
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .batchSize(100)
+                .batchIntervalMillis(10_000)
+                .minWorkers(2)
+                .maxWorkers(4)
+                .build());
+        for (int i = 0; i < 2_000; i++) {
+            assertTrue(sender.addLog(entry()));
+        }
+
+        assertTrue(sender.shutdown(10_000));
+
+        assertEquals(2_000, sender.getMetrics().getLogsSent());
+        assertEquals(4, maxConcurrentRequests.get());
+    }
+
+    @Test
+    void testGivesUpAtDeadline() {
+        responseDelayMillis = 5_000;
+        LogSender sender = new LogSender(config(10_000));
+        sender.addLog(entry());
+
+        long start = System.nanoTime();
+        assertFalse(sender.shutdown(200));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 2_000, "shutdown took " + elapsedMillis + " ms");
+        assertEquals(0, sender.getMetrics().getLogsSent());
+    }
+
+    @Test
+    void testShutdownIsIdempotent() {
+        LogSender sender = new LogSender(config(10_000));
+        assertTrue(sender.shutdown(1_000));
+        assertFalse(sender.shutdown(1_000));
+    }
+
+    private Config config(long batchIntervalMillis) {
+        return Config.builder()
+                .projectId(PROJECT_ID)
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .batchSize(100)
+                .batchIntervalMillis(batchIntervalMillis)
+                .build();
+    }
+
+    private static LogEntry entry() {
+        return new LogEntry("INFO", "Test message", "2024-01-01T00:00:00.000000000Z", Map.of());
+    }
+}
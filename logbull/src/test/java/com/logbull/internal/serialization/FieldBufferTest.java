@@ -0,0 +1,83 @@
+package com.logbull.internal.serialization;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldBufferTest {
+    private FieldBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new FieldBuffer();
+    }
+
+    @Test
+    void testEncodeTypedFields() {
+        buffer.add("latency_ms", 42L);
+        buffer.add("ratio", 0.25);
+        buffer.add("ok", true);
+        buffer.add("user", (Object) "john");
+        buffer.add("tags", List.of("a", "b"));
+
+        Map<String, Object> decoded = buffer.encode(null).getFields();
+        assertEquals(42, decoded.get("latency_ms"));
+        assertEquals(0.25, decoded.get("ratio"));
+        assertEquals(true, decoded.get("ok"));
+        assertEquals("john", decoded.get("user"));
+        assertEquals(List.of("a", "b"), decoded.get("tags"));
+    }
+
+    @Test
+    void testDuplicateKeyReplacesValue() {
+        buffer.add("count", 1L);
+        buffer.add("count", 2L);
+
+        assertEquals(1, buffer.size());
+        assertEquals(Map.of("count", 2), buffer.encode(null).getFields());
+    }
+
+    @Test
+    void testGrowsBeyondInitialCapacity() {
+        for (int i = 0; i < 50; i++) {
+            buffer.add("field_" + i, (long) i);
+        }
+
+        Map<String, Object> decoded = buffer.encode(null).getFields();
+        assertEquals(50, decoded.size());
+        assertEquals(49, decoded.get("field_49"));
+    }
+
+    @Test
+    void testEncodeWithInheritedFields() {
+        EncodedFields context = EncodedFields.of(Map.of("request_id", "req_1", "tenant", "acme"));
+        buffer.add("tenant", (Object) "other");
+
+        assertTrue(buffer.overridesAny(context));
+        Map<String, Object> decoded = buffer.encode(context.getFields()).getFields();
+        assertEquals(Map.of("request_id", "req_1", "tenant", "other"), decoded);
+    }
+
+    @Test
+    void testClear() {
+        buffer.add("a", 1L);
+        buffer.clear();
+
+        assertTrue(buffer.isEmpty());
+        assertTrue(buffer.encode(null).isEmpty());
+    }
+
+    @Test
+    void testAppendTo() {
+        buffer.add("a", 1L);
+        buffer.add("b", true);
+
+        StringBuilder output = new StringBuilder();
+        buffer.appendTo(output);
+        assertEquals("a=1, b=true", output.toString());
+    }
+}
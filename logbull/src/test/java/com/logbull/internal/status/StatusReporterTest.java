@@ -0,0 +1,123 @@
+package com.logbull.internal.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatusReporterTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> messages = new ArrayList<>();
+    private StatusReporter reporter;
+
+    @BeforeEach
+    void setUp() {
+        reporter = new StatusReporter(clock::get, 1_000, 2);
+        reporter.addListener((category, message) -> messages.add(category + " " + message));
+    }
+
+    @Test
+    void testReportsUpToLimitPerWindow() {
+        for (int i = 0; i < 5; i++) {
+            reporter.report(StatusCategory.QUEUE_FULL, "log queue full, dropping log");
+        }
+
+        assertEquals(List.of(
+                "QUEUE_FULL log queue full, dropping log",
+                "QUEUE_FULL log queue full, dropping log"), messages);
+    }
+
+    @Test
+    void testSummarizesSuppressedReportsWhenWindowRolls() {
+        for (int i = 0; i < 5; i++) {
+            reporter.report(StatusCategory.QUEUE_FULL, "log queue full, dropping log");
+        }
+        messages.clear();
+
+        clock.addAndGet(1_000);
+        reporter.report(StatusCategory.QUEUE_FULL, "log queue full, dropping log");
+
+        assertEquals(List.of(
+                "QUEUE_FULL 3 more log queue full reports suppressed",
+                "QUEUE_FULL log queue full, dropping log"), messages);
+    }
+
+    @Test
+    void testEmitsSummariesPeriodically() {
+        for (int i = 0; i < 3; i++) {
+            reporter.report(StatusCategory.SEND_FAILED, "HTTP request failed");
+        }
+        messages.clear();
+
+        reporter.emitSummaries();
+        assertTrue(messages.isEmpty());
+
+        clock.addAndGet(1_000);
+        reporter.emitSummaries();
+        reporter.emitSummaries();
+        assertEquals(List.of("SEND_FAILED 1 more failed batch send reports suppressed"), messages);
+    }
+
+    @Test
+    void testEmitAllSummariesIgnoresWindow() {
+        for (int i = 0; i < 4; i++) {
+            reporter.report(StatusCategory.INVALID_LOG, "invalid log message");
+        }
+        messages.clear();
+
+        reporter.emitAllSummaries();
+
+        assertEquals(List.of("INVALID_LOG 2 more invalid log reports suppressed"), messages);
+    }
+
+    @Test
+    void testLimitsCategoriesIndependently() {
+        for (int i = 0; i < 3; i++) {
+            reporter.report(StatusCategory.QUEUE_FULL, "log queue full, dropping log");
+        }
+        reporter.report(StatusCategory.FORMAT_FAILED, "failed to format log, dropping it", new IOException("boom"));
+
+        assertEquals("FORMAT_FAILED failed to format log, dropping it: boom", messages.get(2));
+    }
+
+    @Test
+    void testSupplierIsNotCalledWhenSuppressed() {
+        List<String> built = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            reporter.report(StatusCategory.REJECTED_LOGS, () -> {
+                built.add("details");
+                return "Rejected 1 log entries";
+            });
+        }
+
+        assertEquals(2, built.size());
+    }
+
+    @Test
+    void testReportsToEveryListenerUntilRemoved() {
+        List<String> other = new ArrayList<>();
+        StatusListener listener = (category, message) -> other.add(message);
+        reporter.addListener(listener);
+
+        reporter.report(StatusCategory.SEND_FAILED, "first");
+        reporter.removeListener(listener);
+        reporter.report(StatusCategory.SEND_FAILED, "second");
+
+        assertEquals(List.of("SEND_FAILED first", "SEND_FAILED second"), messages);
+        assertEquals(List.of("first"), other);
+    }
+
+    @Test
+    void testFailingListenerFallsBackToStandardError() {
+        reporter.addListener((category, message) -> {
+            throw new IllegalStateException("listener broken");
+        });
+
+        assertDoesNotThrow(() -> reporter.report(StatusCategory.INTERNAL, "failed to queue log"));
+    }
+}
@@ -3,7 +3,9 @@ package com.logbull.internal.validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -121,4 +123,74 @@ class ValidatorTest {
 
         assertThrows(IllegalArgumentException.class, () -> validator.validateLogFields(fields));
     }
+
+    @Test
+    void testCheckLogMessage() {
+        assertEquals(ValidationResult.VALID, validator.checkLogMessage("message"));
+        assertEquals(ValidationResult.EMPTY_MESSAGE, validator.checkLogMessage("   "));
+        assertEquals(ValidationResult.EMPTY_MESSAGE, validator.checkLogMessage(null));
+        assertEquals(ValidationResult.MESSAGE_TOO_LONG, validator.checkLogMessage("a".repeat(10_001)));
+    }
+
+    @Test
+    void testCheckFieldKey() {
+        assertEquals(ValidationResult.VALID, validator.checkFieldKey("user_id"));
+        assertEquals(ValidationResult.EMPTY_FIELD_KEY, validator.checkFieldKey(" "));
+        assertEquals(ValidationResult.FIELD_KEY_TOO_LONG, validator.checkFieldKey("a".repeat(101)));
+    }
+
+    @Test
+    void testSanitizeValidFieldsReturnsSameMap() {
+        Map<String, Object> fields = Map.of("user_id", "12345");
+        List<ValidationResult> problems = new ArrayList<>();
+
+        assertSame(fields, validator.sanitizeLogFields(fields, problems::add));
+        assertTrue(problems.isEmpty());
+    }
+
+    @Test
+    void testSanitizeInvalidFields() {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("", "dropped");
+        fields.put("a".repeat(150), "truncated");
+        fields.put("valid", "kept");
+        List<ValidationResult> problems = new ArrayList<>();
+
+        Map<String, Object> sanitized = validator.sanitizeLogFields(fields, problems::add);
+        assertEquals(2, sanitized.size());
+        assertEquals("kept", sanitized.get("valid"));
+        assertEquals("truncated", sanitized.get("a".repeat(100)));
+        assertTrue(problems.contains(ValidationResult.EMPTY_FIELD_KEY));
+        assertTrue(problems.contains(ValidationResult.FIELD_KEY_TOO_LONG));
+    }
+
+    @Test
+    void testSanitizeTooManyFields() {
+        Map<String, Object> fields = new HashMap<>();
+        for (int i = 0; i < 150; i++) {
+            fields.put("field_" + i, i);
+        }
+        List<ValidationResult> problems = new ArrayList<>();
+
+        Map<String, Object> sanitized = validator.sanitizeLogFields(fields, problems::add);
+        assertEquals(100, sanitized.size());
+        assertEquals(List.of(ValidationResult.TOO_MANY_FIELDS), problems);
+    }
+
+    @Test
+    void testSanitizeFieldKeyIsCached() {
+        String key = "  " + "a".repeat(150);
+        String first = validator.sanitizeFieldKey(key);
+        assertEquals("a".repeat(100), first);
+        assertSame(first, validator.sanitizeFieldKey(key));
+        assertNull(validator.sanitizeFieldKey("   "));
+    }
+
+    @Test
+    void testRecordInvalid() {
+        assertTrue(validator.recordInvalid(ValidationResult.EMPTY_MESSAGE));
+        assertFalse(validator.recordInvalid(ValidationResult.EMPTY_MESSAGE));
+        assertEquals(2, validator.getInvalidCount(ValidationResult.EMPTY_MESSAGE));
+        assertEquals(0, validator.getInvalidCount(ValidationResult.TOO_MANY_FIELDS));
+    }
 }
@@ -0,0 +1,93 @@
+package com.logbull.jul;
+
+import com.logbull.core.LogEntry;
+import com.logbull.core.LogLevel;
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ListResourceBundle;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeferredJulRecordTest {
+
+    @Test
+    void testMaterializesFormattedMessageAndFields() {
+        LogRecord record = new LogRecord(Level.WARNING, "Order {0} took {1} ms");
+        record.setParameters(new Object[] { "order_1", 250 });
+        record.setLoggerName("com.example.PaymentService");
+        record.setInstant(Instant.parse("2024-01-01T00:00:00Z"));
+        IllegalStateException exception = new IllegalStateException("boom");
+        record.setThrown(exception);
+
+        LogEntry entry = toLogEntry(record);
+
+        assertEquals("WARNING", entry.getLevel());
+        assertEquals("Order order_1 took 250 ms", entry.getMessage());
+        assertEquals("com.example.PaymentService", entry.getFields().get("logger"));
+        assertEquals("main-thread", entry.getFields().get("thread"));
+        assertTrue(entry.getTimestamp().startsWith("2024-01-01T00:00:00"));
+        assertSame(exception, entry.getThrowable());
+    }
+
+    @Test
+    void testMessageWithoutPlaceholdersIsNotFormatted() {
+        LogRecord record = new LogRecord(Level.INFO, "Literal '{braces}'");
+        record.setParameters(new Object[] { "unused" });
+
+        assertEquals("Literal '{braces}'", toLogEntry(record).getMessage());
+    }
+
+    @Test
+    void testLocalizedMessage() {
+        LogRecord record = new LogRecord(Level.INFO, "order.placed");
+        record.setParameters(new Object[] { "order_1" });
+        record.setResourceBundle(new ListResourceBundle() {
+            @Override
+            protected Object[][] getContents() {
+                return new Object[][] { { "order.placed", "Order {0} placed" } };
+            }
+        });
+
+        assertEquals("Order order_1 placed", toLogEntry(record).getMessage());
+    }
+
+    @Test
+    void testTimestampsFollowLoggingOrderWhenMaterializedOutOfOrder() {
+        TimestampGenerator timestampGenerator = new TimestampGenerator();
+        DeferredJulRecord first = new DeferredJulRecord(record(Instant.parse("2024-01-01T00:00:00Z")),
+                LogLevel.INFO, "main-thread", new Formatter(), timestampGenerator);
+        DeferredJulRecord second = new DeferredJulRecord(record(Instant.parse("2024-01-01T00:00:00Z")),
+                LogLevel.INFO, "main-thread", new Formatter(), timestampGenerator);
+
+        // Sender threads may format a later batch before an earlier one
+        String secondTimestamp = second.toLogEntry().getTimestamp();
+        String firstTimestamp = first.toLogEntry().getTimestamp();
+
+        assertEquals("2024-01-01T00:00:00.000000000Z", firstTimestamp);
+        assertEquals("2024-01-01T00:00:00.000000001Z", secondTimestamp);
+    }
+
+    @Test
+    void testReturnsSameEntryOnRepeatedCalls() {
+        DeferredJulRecord deferred = new DeferredJulRecord(new LogRecord(Level.SEVERE, "Failure"),
+                LogLevel.ERROR, "main-thread", new Formatter(), new TimestampGenerator());
+
+        assertSame(deferred.toLogEntry(), deferred.toLogEntry());
+    }
+
+    private static LogRecord record(Instant instant) {
+        LogRecord record = new LogRecord(Level.INFO, "Order placed");
+        record.setInstant(instant);
+        return record;
+    }
+
+    private LogEntry toLogEntry(LogRecord record) {
+        return new DeferredJulRecord(record, LogBullHandler.convertJulLevel(record.getLevel()), "main-thread",
+                new Formatter(), new TimestampGenerator()).toLogEntry();
+    }
+}
@@ -0,0 +1,67 @@
+package com.logbull.jul;
+
+import com.logbull.Config;
+import com.logbull.core.LogLevel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogBullHandlerTest {
+    private LogBullHandler handler;
+
+    @AfterEach
+    void tearDown() {
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    void testConvertJulLevel() {
+        assertEquals(LogLevel.DEBUG, LogBullHandler.convertJulLevel(Level.FINEST));
+        assertEquals(LogLevel.DEBUG, LogBullHandler.convertJulLevel(Level.CONFIG));
+        assertEquals(LogLevel.INFO, LogBullHandler.convertJulLevel(Level.INFO));
+        assertEquals(LogLevel.WARNING, LogBullHandler.convertJulLevel(Level.WARNING));
+        assertEquals(LogLevel.ERROR, LogBullHandler.convertJulLevel(Level.SEVERE));
+        assertEquals(LogLevel.CRITICAL, LogBullHandler.convertJulLevel(Level.parse("1100")));
+        assertEquals(LogLevel.INFO, LogBullHandler.convertJulLevel(null));
+    }
+
+    @Test
+    void testPublish() {
+        handler = new LogBullHandler(Config.builder()
+                .projectId("12345678-1234-1234-1234-123456789012")
+                .host("http://localhost:4005")
+                .build());
+
+        LogRecord record = new LogRecord(Level.INFO, "Processing order {0}");
+        record.setParameters(new Object[] { "order_1" });
+
+        // Should not throw exceptions
+        handler.publish(record);
+        handler.publish(new LogRecord(Level.FINE, "Filtered by level"));
+        handler.flush();
+    }
+
+    @Test
+    void testInvalidConfig() {
+        assertThrows(IllegalArgumentException.class, () -> new LogBullHandler(Config.builder()
+                .projectId("invalid")
+                .host("http://localhost:4005")
+                .build()));
+    }
+
+    @Test
+    void testUnconfiguredHandlerDiscardsRecords() {
+        // No LogBull properties in the default LogManager configuration
+        handler = new LogBullHandler();
+
+        // Should not throw exceptions
+        handler.publish(new LogRecord(Level.SEVERE, "Dropped"));
+        handler.flush();
+    }
+}
@@ -0,0 +1,124 @@
+package com.logbull.slf4j;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logbull.core.LogEntry;
+import com.logbull.core.LogLevel;
+import com.logbull.internal.formatting.Formatter;
+import com.logbull.internal.sender.BatchSerializer;
+import com.logbull.internal.timestamp.TimestampGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.KeyValuePair;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeferredLogbackEventTest {
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        logger = context.getLogger("com.example.PaymentService");
+    }
+
+    @Test
+    void testMaterializesFormattedMessageAndFields() {
+        LoggingEvent event = new LoggingEvent(
+                Logger.class.getName(), logger, Level.INFO, "Processing order {}", null, new Object[] { "order_1" });
+        event.setMDCPropertyMap(Map.of("request_id", "req_1"));
+
+        DeferredLogbackEvent deferred = new DeferredLogbackEvent(
+                event, LogLevel.INFO, new Formatter(), new TimestampGenerator());
+        LogEntry entry = deferred.toLogEntry();
+
+        assertEquals("INFO", entry.getLevel());
+        assertEquals("Processing order order_1", entry.getMessage());
+        assertEquals("req_1", entry.getFields().get("request_id"));
+        assertEquals("com.example.PaymentService", entry.getFields().get("logger"));
+        assertEquals(Thread.currentThread().getName(), entry.getFields().get("thread"));
+    }
+
+    @Test
+    void testEncodesKeyValuePairsIntoPayload() throws Exception {
+        LoggingEvent event = new LoggingEvent(
+                Logger.class.getName(), logger, Level.INFO, "Order placed", null, null);
+        event.setMDCPropertyMap(Map.of("request_id", "req_1", "order_id", "from_mdc"));
+        event.addKeyValuePair(new KeyValuePair("order_id", "order_1"));
+        event.addKeyValuePair(new KeyValuePair("amount", 99.5));
+        event.addKeyValuePair(new KeyValuePair("logger", "ignored"));
+
+        LogEntry entry = new DeferredLogbackEvent(
+                event, LogLevel.INFO, new Formatter(), new TimestampGenerator()).toLogEntry();
+        byte[] payload = new BatchSerializer().serialize(List.of(entry));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> log = ((List<Map<String, Object>>) new ObjectMapper()
+                .readValue(payload, Map.class).get("logs")).get(0);
+        Map<String, Object> expected = Map.of(
+                "request_id", "req_1",
+                "order_id", "order_1",
+                "amount", 99.5,
+                "logger", "com.example.PaymentService",
+                "thread", Thread.currentThread().getName());
+        assertEquals(expected, log.get("fields"));
+        assertEquals(expected, entry.getFields());
+    }
+
+    @Test
+    void testCapturesThreadNameOnLoggingThread() throws Exception {
+        LoggingEvent event = new LoggingEvent(
+                Logger.class.getName(), logger, Level.WARN, "Slow request", null, null);
+        DeferredLogbackEvent deferred = new DeferredLogbackEvent(
+                event, LogLevel.WARNING, new Formatter(), new TimestampGenerator());
+
+        LogEntry[] entry = new LogEntry[1];
+        Thread sender = new Thread(() -> entry[0] = deferred.toLogEntry(), "sender-thread");
+        sender.start();
+        sender.join();
+
+        assertEquals("Slow request", entry[0].getMessage());
+        assertEquals(Thread.currentThread().getName(), entry[0].getFields().get("thread"));
+    }
+
+    @Test
+    void testTimestampsFollowLoggingOrderWhenMaterializedOutOfOrder() {
+        TimestampGenerator timestampGenerator = new TimestampGenerator();
+        Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+        DeferredLogbackEvent first = new DeferredLogbackEvent(
+                event(instant), LogLevel.INFO, new Formatter(), timestampGenerator);
+        DeferredLogbackEvent second = new DeferredLogbackEvent(
+                event(instant), LogLevel.INFO, new Formatter(), timestampGenerator);
+
+        // Sender threads may format a later batch before an earlier one
+        String secondTimestamp = second.toLogEntry().getTimestamp();
+        String firstTimestamp = first.toLogEntry().getTimestamp();
+
+        assertEquals("2024-01-01T00:00:00.000000000Z", firstTimestamp);
+        assertEquals("2024-01-01T00:00:00.000000001Z", secondTimestamp);
+    }
+
+    @Test
+    void testReturnsSameEntryOnRepeatedCalls() {
+        LoggingEvent event = new LoggingEvent(
+                Logger.class.getName(), logger, Level.ERROR, "Failure", null, null);
+        DeferredLogbackEvent deferred = new DeferredLogbackEvent(
+                event, LogLevel.ERROR, new Formatter(), new TimestampGenerator());
+
+        assertSame(deferred.toLogEntry(), deferred.toLogEntry());
+    }
+
+    private LoggingEvent event(Instant instant) {
+        LoggingEvent event = new LoggingEvent(
+                Logger.class.getName(), logger, Level.INFO, "Order placed", null, null);
+        event.setInstant(instant);
+        return event;
+    }
+}
@@ -0,0 +1,102 @@
+package com.logbull.slf4j;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import com.logbull.core.LogLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogBullTurboFilterTest {
+    private LoggerContext context;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        logger = context.getLogger("com.example.PaymentService");
+    }
+
+    @Test
+    void testDeniesBelowThreshold() {
+        LogBullTurboFilter filter = startFilter("WARNING", 1.0);
+
+        assertEquals(FilterReply.DENY, filter.decide(null, logger, Level.DEBUG, "message", null, null));
+        assertEquals(FilterReply.DENY, filter.decide(null, logger, Level.INFO, "message", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.WARN, "message", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.ERROR, "message", null, null));
+    }
+
+    @Test
+    void testTraceKeptAtDebugThreshold() {
+        LogBullTurboFilter filter = startFilter("DEBUG", 1.0);
+
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.TRACE, "message", null, null));
+    }
+
+    @Test
+    void testSamplesOnlyCallsBelowWarning() {
+        LogBullTurboFilter filter = startFilter("DEBUG", 0.0);
+
+        assertEquals(FilterReply.DENY, filter.decide(null, logger, Level.INFO, "message", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.WARN, "message", null, null));
+        // Level checks without a message are not sampled
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.INFO, null, null, null));
+    }
+
+    @Test
+    void testInvalidSampleRateDoesNotStart() {
+        LogBullTurboFilter filter = new LogBullTurboFilter();
+        filter.setContext(context);
+        filter.setSampleRate(2.0);
+        filter.start();
+
+        assertFalse(filter.isStarted());
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.TRACE, "message", null, null));
+    }
+
+    @Test
+    void testInstalledFilterSkipsEventCreation() {
+        context.addTurboFilter(startFilter("ERROR", 1.0));
+
+        assertFalse(logger.isInfoEnabled());
+        assertTrue(logger.isErrorEnabled());
+    }
+
+    @Test
+    void testReconfigureWhileRunning() {
+        LogBullTurboFilter filter = startFilter("WARNING", 1.0);
+
+        filter.reconfigure(LogLevel.DEBUG, 0.0);
+        assertTrue(filter.isStarted());
+        assertEquals(FilterReply.DENY, filter.decide(null, logger, Level.INFO, "message", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.INFO, null, null, null));
+
+        assertThrows(IllegalArgumentException.class, () -> filter.reconfigure(LogLevel.INFO, 1.5));
+        assertEquals(FilterReply.DENY, filter.decide(null, logger, Level.INFO, "message", null, null));
+
+        filter.stop();
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.TRACE, "message", null, null));
+    }
+
+    @Test
+    void testToLogbackThreshold() {
+        assertEquals(Level.TRACE_INT, LogBullTurboFilter.toLogbackThreshold(LogLevel.DEBUG));
+        assertEquals(Level.INFO_INT, LogBullTurboFilter.toLogbackThreshold(LogLevel.INFO));
+        assertEquals(Level.WARN_INT, LogBullTurboFilter.toLogbackThreshold(LogLevel.WARNING));
+        assertEquals(Level.ERROR_INT, LogBullTurboFilter.toLogbackThreshold(LogLevel.ERROR));
+        assertEquals(Level.OFF_INT, LogBullTurboFilter.toLogbackThreshold(LogLevel.CRITICAL));
+    }
+
+    private LogBullTurboFilter startFilter(String logLevel, double sampleRate) {
+        LogBullTurboFilter filter = new LogBullTurboFilter();
+        filter.setContext(context);
+        filter.setLogLevel(logLevel);
+        filter.setSampleRate(sampleRate);
+        filter.start();
+        return filter;
+    }
+}
@@ -0,0 +1,67 @@
+package com.logbull.slf4j;
+
+import com.logbull.internal.serialization.JsonWriter;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.helpers.BasicMarkerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Slf4jFieldsTest {
+
+    @Test
+    void testLaterSourcesWin() {
+        Map<String, String> mdc = new LinkedHashMap<>();
+        mdc.put("request_id", "req_1");
+        mdc.put("order_id", "from_mdc");
+        mdc.put("logger", "from_mdc");
+        Slf4jFields fields = new Slf4jFields(mdc,
+                List.of(new KeyValuePair("order_id", "order_0"), new KeyValuePair(" order_id ", "order_1"),
+                        new KeyValuePair(" ", "blank")),
+                List.of(new BasicMarkerFactory().getMarker("PAYMENT")),
+                "com.example.PaymentService", "worker-1");
+
+        assertEquals("{\"request_id\":\"req_1\",\"order_id\":\"order_1\",\"marker\":\"PAYMENT\","
+                + "\"logger\":\"com.example.PaymentService\",\"thread\":\"worker-1\"}", write(fields));
+        assertEquals(Map.of("request_id", "req_1", "order_id", "order_1", "marker", "PAYMENT",
+                "logger", "com.example.PaymentService", "thread", "worker-1"), fields.getFields());
+    }
+
+    @Test
+    void testMdcKeysDifferingInWhitespaceAreWrittenOnce() {
+        Map<String, String> mdc = new LinkedHashMap<>();
+        mdc.put(" tenant", "padded_1");
+        mdc.put("tenant", "exact");
+        mdc.put("region ", "padded_2");
+        mdc.put(" region", "padded_3");
+        Slf4jFields fields = new Slf4jFields(mdc, null, null, "com.example.PaymentService", null);
+
+        assertEquals("{\"tenant\":\"exact\",\"region\":\"padded_2\","
+                + "\"logger\":\"com.example.PaymentService\"}", write(fields));
+    }
+
+    @Test
+    void testContainsKey() {
+        Slf4jFields fields = new Slf4jFields(Map.of(" request_id ", "req_1"),
+                List.of(new KeyValuePair("order_id", "order_1")), null, "com.example.PaymentService", null);
+
+        assertTrue(fields.containsKey("request_id"));
+        assertTrue(fields.containsKey("order_id"));
+        assertTrue(fields.containsKey("logger"));
+        assertFalse(fields.containsKey("thread"));
+        assertFalse(fields.containsKey("marker"));
+    }
+
+    private static String write(Slf4jFields fields) {
+        JsonWriter writer = new JsonWriter();
+        writer.writeByte('{');
+        fields.writeTo(writer);
+        writer.writeByte('}');
+        return new String(writer.toByteArray(), StandardCharsets.UTF_8);
+    }
+}